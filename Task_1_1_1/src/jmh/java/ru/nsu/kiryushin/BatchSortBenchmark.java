@@ -0,0 +1,90 @@
+package ru.nsu.kiryushin;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput of the batch API in segments per second, against sorting
+ * the same segments one {@link SortUtil#heapSort(int[])} call at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchSortBenchmark {
+    private static final int SEGMENTS = 100_000;
+
+    /** Upper bound of the segment length; lengths are uniform in 10..maxLength. */
+    @Param({"32", "1000"})
+    private int maxLength;
+
+    private int[][] source;
+    private int[][] arrays;
+    private int[] sourceData;
+    private int[] data;
+    private int[] offsets;
+
+    /**
+     * Generates the segments once per trial.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        Random random = new Random(42);
+        source = new int[SEGMENTS][];
+        arrays = new int[SEGMENTS][];
+        offsets = new int[SEGMENTS + 1];
+        for (int s = 0; s < SEGMENTS; ++s) {
+            int len = 10 + random.nextInt(maxLength - 9);
+            source[s] = BenchmarkInputs.generate("random", len, s);
+            arrays[s] = new int[len];
+            offsets[s + 1] = offsets[s] + len;
+        }
+        sourceData = new int[offsets[SEGMENTS]];
+        for (int s = 0; s < SEGMENTS; ++s) {
+            System.arraycopy(source[s], 0, sourceData, offsets[s], source[s].length);
+        }
+        data = new int[sourceData.length];
+    }
+
+    /**
+     * Restores the unsorted segments before every call.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        for (int s = 0; s < SEGMENTS; ++s) {
+            System.arraycopy(source[s], 0, arrays[s], 0, source[s].length);
+        }
+        System.arraycopy(sourceData, 0, data, 0, data.length);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEGMENTS)
+    public int[][] sortAll() {
+        return SortUtil.sortAll(arrays);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEGMENTS)
+    public int[] sortSegments() {
+        return SortUtil.sortSegments(data, offsets);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEGMENTS)
+    public int[][] heapSortOneByOne() {
+        for (int[] arr : arrays) {
+            SortUtil.heapSort(arr);
+        }
+        return arrays;
+    }
+}
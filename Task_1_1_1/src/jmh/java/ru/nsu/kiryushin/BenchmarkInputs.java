@@ -0,0 +1,69 @@
+package ru.nsu.kiryushin;
+
+import java.util.Random;
+
+/**
+ * Input generators shared by the benchmarks.
+ */
+final class BenchmarkInputs {
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * Builds an array with the requested distribution.
+     *
+     * @param distribution one of "random", "sorted", "reversed", "duplicates",
+     *     "organPipe", "medianOf3Killer"
+     * @param size array length
+     * @param seed random seed
+     * @return generated array
+     */
+    static int[] generate(String distribution, int size, long seed) {
+        Random random = new Random(seed);
+        int[] arr = new int[size];
+        switch (distribution) {
+            case "random":
+                for (int i = 0; i < size; ++i) {
+                    arr[i] = random.nextInt();
+                }
+                break;
+            case "sorted":
+                for (int i = 0; i < size; ++i) {
+                    arr[i] = i;
+                }
+                break;
+            case "reversed":
+                for (int i = 0; i < size; ++i) {
+                    arr[i] = size - i;
+                }
+                break;
+            case "duplicates":
+                for (int i = 0; i < size; ++i) {
+                    arr[i] = random.nextInt(16);
+                }
+                break;
+            case "organPipe":
+                for (int i = 0; i < size; ++i) {
+                    arr[i] = Math.min(i, size - 1 - i);
+                }
+                break;
+            case "medianOf3Killer":
+                // Musser's sequence that drives median-of-3 quicksort to quadratic time
+                int half = size / 2;
+                for (int i = 1; i <= half; ++i) {
+                    if (i % 2 == 1) {
+                        arr[i - 1] = i;
+                        arr[i] = half + i;
+                    }
+                    arr[half + i - 1] = 2 * i;
+                }
+                if (size % 2 == 1) {
+                    arr[size - 1] = size;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+        return arr;
+    }
+}
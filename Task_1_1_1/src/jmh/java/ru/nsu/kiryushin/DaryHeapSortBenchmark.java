@@ -0,0 +1,58 @@
+package ru.nsu.kiryushin;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Binary heap sort against {@link SortUtil#daryHeapSort(int[], int)}.
+ * 64M ints (256 MB) are well beyond any L3 cache, 1M ints (4 MB) usually fit in it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DaryHeapSortBenchmark {
+    @Param({"1000000", "16000000", "64000000"})
+    private int size;
+
+    @Param({"4", "8"})
+    private int arity;
+
+    private int[] source;
+    private int[] arr;
+
+    /**
+     * Generates the input once per trial.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        source = BenchmarkInputs.generate("random", size, 42);
+        arr = new int[size];
+    }
+
+    /**
+     * Restores the unsorted input before every call.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, arr, 0, size);
+    }
+
+    @Benchmark
+    public int[] binaryHeapSort() {
+        return SortUtil.heapSort(arr);
+    }
+
+    @Benchmark
+    public int[] daryHeapSort() {
+        return SortUtil.daryHeapSort(arr, arity);
+    }
+}
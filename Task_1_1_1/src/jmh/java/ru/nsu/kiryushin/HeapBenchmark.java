@@ -0,0 +1,84 @@
+package ru.nsu.kiryushin;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Push-all-then-pop-all through {@link IntMinHeap}, {@link LongHeap}
+ * and a boxing {@link PriorityQueue}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HeapBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] values;
+
+    /**
+     * Generates the values once per trial.
+     */
+    @Setup
+    public void generate() {
+        values = BenchmarkInputs.generate("random", size, 42);
+    }
+
+    @Benchmark
+    public long intMinHeap() {
+        IntMinHeap heap = new IntMinHeap();
+        for (int value : values) {
+            heap.push(value);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intMinHeapBulk() {
+        IntMinHeap heap = new IntMinHeap(values);
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longHeap() {
+        LongHeap heap = new LongHeap();
+        for (int value : values) {
+            heap.push(value);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long priorityQueue() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (int value : values) {
+            queue.add(value);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+}
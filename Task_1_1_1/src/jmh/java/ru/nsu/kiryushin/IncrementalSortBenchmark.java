@@ -0,0 +1,65 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Batches arrive one by one and the smallest 100 values are queried after each,
+ * then everything is drained: {@link IncrementalSorter} against re-sorting
+ * the accumulated array with {@link SortUtil#heapSort(int[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IncrementalSortBenchmark {
+    private static final int QUERY = 100;
+
+    @Param({"100"})
+    private int batches;
+
+    @Param({"10000"})
+    private int batchSize;
+
+    private int[][] input;
+
+    /**
+     * Generates the batches once per trial.
+     */
+    @Setup
+    public void generate() {
+        input = new int[batches][];
+        for (int b = 0; b < batches; ++b) {
+            input[b] = BenchmarkInputs.generate("random", batchSize, b);
+        }
+    }
+
+    @Benchmark
+    public int[] incremental() {
+        IncrementalSorter sorter = new IncrementalSorter();
+        for (int[] batch : input) {
+            sorter.addBatch(batch);
+            sorter.smallest(QUERY);
+        }
+        return sorter.drain();
+    }
+
+    @Benchmark
+    public int[] resortEveryBatch() {
+        int[] all = new int[0];
+        for (int[] batch : input) {
+            int[] grown = Arrays.copyOf(all, all.length + batch.length);
+            System.arraycopy(batch, 0, grown, all.length, batch.length);
+            all = SortUtil.heapSort(grown);
+        }
+        return all;
+    }
+}
@@ -0,0 +1,65 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link SortUtil#introSort(int[])} against heap sort and {@link Arrays#sort(int[])},
+ * including inputs built to defeat median-of-three pivot selection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntroSortBenchmark {
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"random", "sorted", "reversed", "duplicates", "organPipe", "medianOf3Killer"})
+    private String distribution;
+
+    private int[] source;
+    private int[] arr;
+
+    /**
+     * Generates the input once per trial.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        source = BenchmarkInputs.generate(distribution, size, 42);
+        arr = new int[size];
+    }
+
+    /**
+     * Restores the unsorted input before every call.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, arr, 0, size);
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        return SortUtil.introSort(arr);
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        return SortUtil.heapSort(arr);
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        Arrays.sort(arr);
+        return arr;
+    }
+}
@@ -0,0 +1,53 @@
+package ru.nsu.kiryushin;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Scaling of {@link SortUtil#parallelHeapSort(int[], int)} with the thread count.
+ * The speedup for N threads is the {@code threads=1} score divided by the N-thread score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelHeapSortBenchmark {
+    @Param({"10000000", "50000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    private int[] source;
+    private int[] arr;
+
+    /**
+     * Generates the input once per trial.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        source = BenchmarkInputs.generate("random", size, 42);
+        arr = new int[size];
+    }
+
+    /**
+     * Restores the unsorted input before every call.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, arr, 0, size);
+    }
+
+    @Benchmark
+    public int[] parallelHeapSort() {
+        return SortUtil.parallelHeapSort(arr, threads);
+    }
+}
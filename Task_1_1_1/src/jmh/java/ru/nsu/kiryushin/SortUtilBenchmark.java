@@ -0,0 +1,71 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link SortUtil#heapSort(int[])} with the JDK sorts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortUtilBenchmark {
+    @Param({"1000000", "50000000"})
+    private int size;
+
+    @Param({"random", "sorted", "reversed", "duplicates"})
+    private String distribution;
+
+    private int[] source;
+    private int[] arr;
+    private final SortMetrics metrics = new SortMetrics();
+
+    /**
+     * Generates the input once per trial.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        source = BenchmarkInputs.generate(distribution, size, 42);
+        arr = new int[size];
+    }
+
+    /**
+     * Restores the unsorted input before every call.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, arr, 0, size);
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        return SortUtil.heapSort(arr);
+    }
+
+    @Benchmark
+    public int[] heapSortWithMetrics() {
+        return SortUtil.heapSort(arr, metrics);
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        Arrays.parallelSort(arr);
+        return arr;
+    }
+}
@@ -0,0 +1,106 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Stable heap sort against TimSort ({@link Arrays#sort(Object[], Comparator)})
+ * on partially ordered data: a sorted sequence with a share of random swaps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StableSortBenchmark {
+    private static final Comparator<Row> BY_KEY = Comparator.comparingInt(row -> row.key);
+
+    @Param({"1000000"})
+    private int size;
+
+    /** Percentage of positions disturbed by random swaps. */
+    @Param({"0", "1", "10", "100"})
+    private int disorder;
+
+    private int[] sourceKeys;
+    private Row[] sourceRows;
+    private int[] keys;
+    private int[] ids;
+    private Row[] rows;
+
+    /** Record with a key and a payload. */
+    static final class Row {
+        final int key;
+        final int id;
+
+        Row(int key, int id) {
+            this.key = key;
+            this.id = id;
+        }
+    }
+
+    /**
+     * Generates the input once per trial.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        Random random = new Random(42);
+        sourceKeys = new int[size];
+        for (int i = 0; i < size; ++i) {
+            sourceKeys[i] = i / 4;
+        }
+        long swaps = (long) size * disorder / 100;
+        for (long s = 0; s < swaps; ++s) {
+            int i = random.nextInt(size);
+            int j = random.nextInt(size);
+            int temp = sourceKeys[i];
+            sourceKeys[i] = sourceKeys[j];
+            sourceKeys[j] = temp;
+        }
+        sourceRows = new Row[size];
+        for (int i = 0; i < size; ++i) {
+            sourceRows[i] = new Row(sourceKeys[i], i);
+        }
+        keys = new int[size];
+        ids = new int[size];
+        rows = new Row[size];
+    }
+
+    /**
+     * Restores the unsorted input before every call.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(sourceKeys, 0, keys, 0, size);
+        System.arraycopy(sourceRows, 0, rows, 0, size);
+        for (int i = 0; i < size; ++i) {
+            ids[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int[] stableHeapSortColumns() {
+        return SortUtil.stableHeapSort(keys, ids);
+    }
+
+    @Benchmark
+    public Row[] stableHeapSortObjects() {
+        return SortUtil.stableHeapSort(rows, BY_KEY);
+    }
+
+    @Benchmark
+    public Row[] timSortObjects() {
+        Arrays.sort(rows, BY_KEY);
+        return rows;
+    }
+}
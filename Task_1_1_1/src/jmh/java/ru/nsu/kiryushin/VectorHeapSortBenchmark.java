@@ -0,0 +1,62 @@
+package ru.nsu.kiryushin;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Vector API 8-ary heap sort against the scalar 8-ary and binary heap sorts.
+ * Meaningful only on CPUs with 256-bit vectors (AVX2 and newer);
+ * check {@link SortUtil#isVectorSortSupported()} in the run log.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VectorHeapSortBenchmark {
+    @Param({"1000000", "16000000"})
+    private int size;
+
+    private int[] source;
+    private int[] arr;
+
+    /**
+     * Generates the input once per trial.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        source = BenchmarkInputs.generate("random", size, 42);
+        arr = new int[size];
+        System.out.println("Vector sort supported: " + SortUtil.isVectorSortSupported());
+    }
+
+    /**
+     * Restores the unsorted input before every call.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, arr, 0, size);
+    }
+
+    @Benchmark
+    public int[] vectorHeapSort() {
+        return SortUtil.vectorHeapSort(arr);
+    }
+
+    @Benchmark
+    public int[] scalarDaryHeapSort() {
+        return SortUtil.daryHeapSort(arr, VectorHeapSort.ARITY);
+    }
+
+    @Benchmark
+    public int[] binaryHeapSort() {
+        return SortUtil.heapSort(arr);
+    }
+}
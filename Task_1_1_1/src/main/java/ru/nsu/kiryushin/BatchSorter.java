@@ -0,0 +1,128 @@
+package ru.nsu.kiryushin;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts many small independent segments across a fork/join pool.
+ * Tiny segments are insertion sorted, larger ones heap sorted.
+ */
+final class BatchSorter {
+    /** Segments of at most this length are insertion sorted. */
+    static final int INSERTION_THRESHOLD = 32;
+
+    /** Tasks per worker, so uneven segment lengths still balance out. */
+    private static final int TASKS_PER_WORKER = 8;
+
+    private BatchSorter() {
+    }
+
+    /**
+     * Sorts every array of the batch.
+     *
+     * @param arrays arrays to sort
+     * @param pool pool to run on
+     */
+    static void sortAll(int[][] arrays, ForkJoinPool pool) {
+        int grain = grain(arrays.length, pool);
+        pool.invoke(new ArraysTask(arrays, 0, arrays.length, grain));
+    }
+
+    /**
+     * Sorts every segment {@code [offsets[s], offsets[s + 1])} of a flat buffer.
+     *
+     * @param data flat buffer
+     * @param offsets non-decreasing segment boundaries
+     * @param pool pool to run on
+     */
+    static void sortSegments(int[] data, int[] offsets, ForkJoinPool pool) {
+        int segments = offsets.length - 1;
+        int grain = grain(segments, pool);
+        pool.invoke(new SegmentsTask(data, offsets, 0, segments, grain));
+    }
+
+    /**
+     * Sorts one range, choosing the algorithm by its length.
+     *
+     * @param arr array
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    static void sortRange(int[] arr, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            IntroSort.insertionSort(arr, from, to);
+        } else {
+            SortUtil.heapSort(arr, from, to);
+        }
+    }
+
+    private static int grain(int count, ForkJoinPool pool) {
+        return Math.max(1, count / (pool.getParallelism() * TASKS_PER_WORKER));
+    }
+
+    /**
+     * Splits a range of arrays until it is at most {@code grain} long.
+     */
+    private static final class ArraysTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] arrays;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        ArraysTask(int[][] arrays, int from, int to, int grain) {
+            this.arrays = arrays;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; ++i) {
+                    sortRange(arrays[i], 0, arrays[i].length);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ArraysTask(arrays, from, mid, grain),
+                    new ArraysTask(arrays, mid, to, grain));
+        }
+    }
+
+    /**
+     * Splits a range of segments until it is at most {@code grain} long.
+     */
+    private static final class SegmentsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] data;
+        private final int[] offsets;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        SegmentsTask(int[] data, int[] offsets, int from, int to, int grain) {
+            this.data = data;
+            this.offsets = offsets;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int s = from; s < to; ++s) {
+                    sortRange(data, offsets[s], offsets[s + 1]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SegmentsTask(data, offsets, from, mid, grain),
+                    new SegmentsTask(data, offsets, mid, to, grain));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.nsu.kiryushin;
+
+import java.nio.IntBuffer;
+
+/**
+ * Heap sort that works in place on an {@link IntBuffer}, so direct and
+ * memory-mapped buffers are sorted without copying them into an {@code int[]}.
+ */
+final class BufferHeapSort {
+    private BufferHeapSort() {
+    }
+
+    /**
+     * Sorts the elements between the position and the limit of the buffer.
+     *
+     * @param buf buffer to sort; its position and limit are not changed
+     */
+    static void sort(IntBuffer buf) {
+        int from = buf.position();
+        int n = buf.limit() - from;
+        if (buf.hasArray()) {
+            int offset = buf.arrayOffset() + from;
+            SortUtil.heapSort(buf.array(), offset, offset + n);
+            return;
+        }
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(buf, from, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            int temp = buf.get(from);
+            buf.put(from, buf.get(from + i));
+            buf.put(from + i, temp);
+            heapify(buf, from, 0, i);
+        }
+    }
+
+    /**
+     * heapify on a buffer, see {@link SortUtil#heapify(int[], int, int, int)}.
+     *
+     * @param buf buffer
+     * @param base index of the heap root in the buffer
+     * @param i index relative to {@code base}
+     * @param n heap size
+     */
+    private static void heapify(IntBuffer buf, int base, int i, int n) {
+        int value = buf.get(base + i);
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            int childValue = buf.get(base + child);
+            if (child + 1 < n) {
+                int rightValue = buf.get(base + child + 1);
+                if (rightValue > childValue) {
+                    child++;
+                    childValue = rightValue;
+                }
+            }
+            buf.put(base + hole, childValue);
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            int parentValue = buf.get(base + parent);
+            if (parentValue >= value) {
+                break;
+            }
+            buf.put(base + hole, parentValue);
+            hole = parent;
+        }
+        buf.put(base + hole, value);
+    }
+}
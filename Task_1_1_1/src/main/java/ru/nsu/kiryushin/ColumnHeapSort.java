@@ -0,0 +1,144 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Heap sort of a key column together with companion payload columns.
+ * Nothing is allocated per row: either the sorting permutation is produced
+ * in a single {@code int[]}, or the columns are permuted in place.
+ */
+final class ColumnHeapSort {
+    private ColumnHeapSort() {
+    }
+
+    /**
+     * Returns the permutation that sorts {@code keys}; equal keys keep their order.
+     *
+     * @param keys keys, not modified
+     * @return indices {@code p} such that {@code keys[p[0]] <= keys[p[1]] <= ...}
+     */
+    static int[] sortIndices(int[] keys) {
+        int n = keys.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; ++i) {
+            idx[i] = i;
+        }
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapifyIndices(keys, idx, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            int temp = idx[0];
+            idx[0] = idx[i];
+            idx[i] = temp;
+            heapifyIndices(keys, idx, 0, i);
+        }
+        return idx;
+    }
+
+    /**
+     * Sorts {@code keys} in place and applies the same moves to every payload column.
+     *
+     * @param keys keys to sort
+     * @param payloads columns with the same length as {@code keys}
+     */
+    static void sort(int[] keys, int[][] payloads) {
+        int n = keys.length;
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(keys, payloads, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            swap(keys, 0, i);
+            for (int[] column : payloads) {
+                swap(column, 0, i);
+            }
+            heapify(keys, payloads, 0, i);
+        }
+    }
+
+    /**
+     * heapify on indices ordered by key, then by index.
+     *
+     * @param keys keys
+     * @param idx indices forming the heap
+     * @param i index
+     * @param n heap size
+     */
+    private static void heapifyIndices(int[] keys, int[] idx, int i, int n) {
+        int value = idx[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && greater(keys, idx[child + 1], idx[child])) {
+                child++;
+            }
+            idx[hole] = idx[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (!greater(keys, value, idx[parent])) {
+                break;
+            }
+            idx[hole] = idx[parent];
+            hole = parent;
+        }
+        idx[hole] = value;
+    }
+
+    private static boolean greater(int[] keys, int a, int b) {
+        return keys[a] > keys[b] || keys[a] == keys[b] && a > b;
+    }
+
+    /**
+     * Bottom-up heapify over several columns: the target slot is found by comparing
+     * keys only, then the path from {@code i} to it is rotated once in every column.
+     *
+     * @param keys keys forming the heap
+     * @param payloads companion columns
+     * @param i index
+     * @param n heap size
+     */
+    private static void heapify(int[] keys, int[][] payloads, int i, int n) {
+        int value = keys[i];
+        int j = i;
+        int half = n >>> 1;
+        while (j < half) {
+            int child = 2 * j + 1;
+            if (child + 1 < n && keys[child + 1] > keys[child]) {
+                child++;
+            }
+            j = child;
+        }
+        while (j > i && keys[j] < value) {
+            j = (j - 1) >>> 1;
+        }
+        rotate(keys, i, j);
+        for (int[] column : payloads) {
+            rotate(column, i, j);
+        }
+    }
+
+    /**
+     * Moves {@code column[i]} down to {@code j} and every value on the heap path
+     * below {@code i} up to {@code j} one level up.
+     *
+     * @param column column to rotate
+     * @param i upper end of the path
+     * @param j lower end of the path
+     */
+    private static void rotate(int[] column, int i, int j) {
+        int carry = column[j];
+        column[j] = column[i];
+        while (j > i) {
+            j = (j - 1) >>> 1;
+            int temp = column[j];
+            column[j] = carry;
+            carry = temp;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,184 @@
+package ru.nsu.kiryushin;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Out-of-core heap sort for binary files of big-endian ints.
+ * The input is cut into runs that fit in memory, every run is heap sorted
+ * and written to a memory-mapped temp file, then the runs are merged
+ * through a min-heap of run cursors.
+ */
+final class ExternalHeapSort {
+    /** Default run length: 16M ints, 64 MB of heap. */
+    static final int DEFAULT_RUN_LENGTH = 1 << 24;
+
+    /** A single mapping may not exceed 2 GB. */
+    static final int MAX_RUN_LENGTH = Integer.MAX_VALUE / Integer.BYTES;
+
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 16;
+
+    private ExternalHeapSort() {
+    }
+
+    /**
+     * Sorts the ints of {@code input} into {@code output}.
+     *
+     * @param input file with big-endian ints
+     * @param output file to write the sorted ints to
+     * @param runLength number of ints sorted in memory at once
+     * @throws IOException if a file cannot be read or written
+     */
+    static void sort(Path input, Path output, int runLength) throws IOException {
+        if (runLength < 1 || runLength > MAX_RUN_LENGTH) {
+            throw new IllegalArgumentException("run length must be in 1.." + MAX_RUN_LENGTH
+                    + ": " + runLength);
+        }
+        Path tempDir = output.toAbsolutePath().getParent();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long total = writeRuns(input, tempDir, runLength, runs);
+            merge(runs, output, total);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Splits the input into sorted runs stored in temp files.
+     *
+     * @param input file with big-endian ints
+     * @param tempDir directory for the run files
+     * @param runLength number of ints per run
+     * @param runs receives the created run files
+     * @return number of ints in the input
+     * @throws IOException if a file cannot be read or written
+     */
+    private static long writeRuns(Path input, Path tempDir, int runLength, List<Path> runs)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long bytes = in.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(
+                        "File length is not a multiple of " + Integer.BYTES + ": " + bytes);
+            }
+            long total = bytes / Integer.BYTES;
+            int[] run = new int[(int) Math.min(runLength, total)];
+            for (long start = 0; start < total; start += runLength) {
+                int len = (int) Math.min(runLength, total - start);
+                long offset = start * Integer.BYTES;
+                long size = (long) len * Integer.BYTES;
+                in.map(FileChannel.MapMode.READ_ONLY, offset, size).asIntBuffer().get(run, 0, len);
+                SortUtil.heapSort(run, 0, len);
+
+                Path file = Files.createTempFile(tempDir, "heapsort-run", ".bin");
+                runs.add(file);
+                try (FileChannel out = FileChannel.open(file,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    out.map(FileChannel.MapMode.READ_WRITE, 0, size).asIntBuffer().put(run, 0, len);
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Merges sorted run files into the output file.
+     *
+     * @param runs run files
+     * @param output file to write the merged ints to
+     * @param total total number of ints in all runs
+     * @throws IOException if a file cannot be read or written
+     */
+    private static void merge(List<Path> runs, Path output, long total) throws IOException {
+        int k = runs.size();
+        IntBuffer[] cursors = new IntBuffer[k];
+        for (int r = 0; r < k; ++r) {
+            try (FileChannel ch = FileChannel.open(runs.get(r), StandardOpenOption.READ)) {
+                cursors[r] = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()).asIntBuffer();
+            }
+        }
+        // heap holds run ids ordered by heads[id], the current head of each run
+        int[] heads = new int[k];
+        int[] heap = new int[k];
+        int size = 0;
+        for (int r = 0; r < k; ++r) {
+            if (cursors[r].hasRemaining()) {
+                heads[r] = cursors[r].get();
+                heap[size++] = r;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; --i) {
+            siftDown(heads, heap, i, size);
+        }
+
+        ByteBuffer buf = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES);
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long written = 0;
+            while (size > 0) {
+                int r = heap[0];
+                if (!buf.hasRemaining()) {
+                    flush(out, buf);
+                }
+                buf.putInt(heads[r]);
+                written++;
+                if (cursors[r].hasRemaining()) {
+                    heads[r] = cursors[r].get();
+                } else {
+                    heap[0] = heap[--size];
+                }
+                if (size > 0) {
+                    siftDown(heads, heap, 0, size);
+                }
+            }
+            flush(out, buf);
+            if (written != total) {
+                throw new IOException("Merged " + written + " ints, expected " + total);
+            }
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            out.write(buf);
+        }
+        buf.clear();
+    }
+
+    /**
+     * Restores the min-heap of run ids keyed by their heads.
+     *
+     * @param heads current head of each run
+     * @param heap run ids
+     * @param i index to sift down
+     * @param n heap size
+     */
+    private static void siftDown(int[] heads, int[] heap, int i, int n) {
+        int id = heap[i];
+        int key = heads[id];
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && heads[heap[child + 1]] < heads[heap[child]]) {
+                child++;
+            }
+            if (key <= heads[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = id;
+    }
+}
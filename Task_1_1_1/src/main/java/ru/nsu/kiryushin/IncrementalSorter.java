@@ -0,0 +1,129 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+
+/**
+ * Sorts values that arrive in batches without re-sorting everything after each batch.
+ * Values live in an {@link IntMinHeap}; a query for the smallest {@code n} values pops
+ * them into a sorted prefix, which later queries and the final drain reuse.
+ * Not thread-safe.
+ */
+public final class IncrementalSorter {
+    /** Batches with more values below the prefix than this invalidate the prefix. */
+    static final int MAX_PREFIX_INSERTS = 32;
+
+    private final IntMinHeap heap = new IntMinHeap();
+    private int[] prefix = new int[16];
+    private int prefixSize;
+
+    /**
+     * Adds a single value.
+     *
+     * @param value value to add
+     */
+    public void add(int value) {
+        if (prefixSize > 0 && value < prefix[prefixSize - 1]) {
+            insertIntoPrefix(value);
+        } else {
+            heap.push(value);
+        }
+    }
+
+    /**
+     * Adds a batch of values in amortized O(b log n), or O(n + b) when the batch
+     * is larger than what is already stored.
+     *
+     * @param batch values to add, not modified
+     */
+    public void addBatch(int[] batch) {
+        if (prefixSize == 0) {
+            heap.pushAll(batch);
+            return;
+        }
+        int tail = prefix[prefixSize - 1];
+        int below = 0;
+        for (int value : batch) {
+            if (value < tail) {
+                below++;
+            }
+        }
+        if (below == 0) {
+            heap.pushAll(batch);
+        } else if (below > MAX_PREFIX_INSERTS) {
+            // cheaper to give the prefix back to the heap than to shift it for every value
+            heap.pushAll(Arrays.copyOf(prefix, prefixSize));
+            prefixSize = 0;
+            heap.pushAll(batch);
+        } else {
+            for (int value : batch) {
+                add(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest values seen so far in ascending order.
+     * Repeated queries only pay for values not yet in the sorted prefix.
+     *
+     * @param n number of values
+     * @return the {@code min(n, size())} smallest values
+     */
+    public int[] smallest(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        while (prefixSize < n && !heap.isEmpty()) {
+            if (prefixSize == prefix.length) {
+                prefix = Arrays.copyOf(prefix, prefixSize + (prefixSize >> 1) + 1);
+            }
+            prefix[prefixSize++] = heap.pop();
+        }
+        return Arrays.copyOf(prefix, Math.min(n, prefixSize));
+    }
+
+    /**
+     * Returns all values in ascending order and empties the sorter.
+     *
+     * @return sorted values
+     */
+    public int[] drain() {
+        int[] all = smallest(size());
+        prefixSize = 0;
+        return all;
+    }
+
+    /**
+     * Returns the number of values held.
+     *
+     * @return value count
+     */
+    public int size() {
+        return prefixSize + heap.size();
+    }
+
+    /**
+     * Inserts a value below the prefix tail, handing the old tail to the heap.
+     *
+     * @param value value to insert
+     */
+    private void insertIntoPrefix(int value) {
+        heap.push(prefix[prefixSize - 1]);
+        int pos = upperBound(value);
+        System.arraycopy(prefix, pos, prefix, pos + 1, prefixSize - 1 - pos);
+        prefix[pos] = value;
+    }
+
+    private int upperBound(int value) {
+        int lo = 0;
+        int hi = prefixSize;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (prefix[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
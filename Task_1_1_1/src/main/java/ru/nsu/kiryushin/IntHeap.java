@@ -0,0 +1,156 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary heap of primitive ints backed by a growable {@code int[]}.
+ * Subclasses decide the order; the sifts are the ones used by {@link SortUtil}.
+ */
+public abstract class IntHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    int[] heap;
+    int size;
+
+    IntHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        heap = new int[Math.max(initialCapacity, 1)];
+    }
+
+    IntHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value value to add
+     */
+    public void push(int value) {
+        ensureCapacity(size + 1);
+        heap[size] = value;
+        siftUp(size++);
+    }
+
+    /**
+     * Adds all values, rebuilding the heap in O(n) when that is cheaper than
+     * pushing them one by one.
+     *
+     * @param values values to add
+     */
+    public void pushAll(int[] values) {
+        ensureCapacity(size + values.length);
+        if (values.length > size) {
+            System.arraycopy(values, 0, heap, size, values.length);
+            size += values.length;
+            for (int i = size / 2 - 1; i >= 0; --i) {
+                siftDown(i);
+            }
+        } else {
+            for (int value : values) {
+                heap[size] = value;
+                siftUp(size++);
+            }
+        }
+    }
+
+    /**
+     * Returns the top value without removing it.
+     *
+     * @return top value
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the top value.
+     *
+     * @return top value
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int pop() {
+        int top = peek();
+        heap[0] = heap[--size];
+        if (size > 0) {
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Returns the position of a value in the heap array, for key updates.
+     *
+     * @param value value to look for
+     * @return its position, or -1 if it is not in the heap
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; ++i) {
+            if (heap[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of values in the heap.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the heap is empty.
+     *
+     * @return {@code true} if there are no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values, keeping the allocated storage.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the values in heap order.
+     *
+     * @return copy of the heap array
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(heap, size);
+    }
+
+    void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+    }
+
+    abstract void siftUp(int i);
+
+    abstract void siftDown(int i);
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Heap is too large");
+        }
+        if (capacity > heap.length) {
+            long grown = Math.max(capacity, heap.length + (heap.length >> 1));
+            heap = Arrays.copyOf(heap, (int) Math.min(grown, Integer.MAX_VALUE - 8));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Max-heap of primitive ints: {@link #pop()} returns the largest value.
+ */
+public final class IntMaxHeap extends IntHeap {
+    /**
+     * Creates an empty heap.
+     */
+    public IntMaxHeap() {
+        super();
+    }
+
+    /**
+     * Creates an empty heap with room for {@code initialCapacity} values.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public IntMaxHeap(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Creates a heap of the given values in O(n).
+     *
+     * @param values initial values, not modified
+     */
+    public IntMaxHeap(int[] values) {
+        super(values.length);
+        pushAll(values);
+    }
+
+    /**
+     * Raises the value stored at {@code index}, the max-heap counterpart of decrease-key.
+     *
+     * @param index position in the heap, e.g. from {@link #indexOf(int)}
+     * @param value new value, not less than the current one
+     * @throws IllegalArgumentException if {@code value} is less than the current value
+     */
+    public void increaseKey(int index, int value) {
+        checkIndex(index);
+        if (value < heap[index]) {
+            throw new IllegalArgumentException(
+                    "New key " + value + " is less than " + heap[index]);
+        }
+        heap[index] = value;
+        siftUp(index);
+    }
+
+    @Override
+    void siftUp(int i) {
+        SortUtil.siftUp(heap, i);
+    }
+
+    @Override
+    void siftDown(int i) {
+        SortUtil.heapify(heap, 0, i, size);
+    }
+}
@@ -0,0 +1,59 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Min-heap of primitive ints: {@link #pop()} returns the smallest value.
+ */
+public final class IntMinHeap extends IntHeap {
+    /**
+     * Creates an empty heap.
+     */
+    public IntMinHeap() {
+        super();
+    }
+
+    /**
+     * Creates an empty heap with room for {@code initialCapacity} values.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public IntMinHeap(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Creates a heap of the given values in O(n).
+     *
+     * @param values initial values, not modified
+     */
+    public IntMinHeap(int[] values) {
+        super(values.length);
+        pushAll(values);
+    }
+
+    /**
+     * Lowers the value stored at {@code index}.
+     *
+     * @param index position in the heap, e.g. from {@link #indexOf(int)}
+     * @param value new value, not greater than the current one
+     * @throws IllegalArgumentException if {@code value} is greater than the current value
+     */
+    public void decreaseKey(int index, int value) {
+        checkIndex(index);
+        if (value > heap[index]) {
+            throw new IllegalArgumentException(
+                    "New key " + value + " is greater than " + heap[index]);
+        }
+        heap[index] = value;
+        siftUp(index);
+    }
+
+    @Override
+    void siftUp(int i) {
+        SortUtil.siftUpMin(heap, i);
+    }
+
+    @Override
+    void siftDown(int i) {
+        SortUtil.heapifyMin(heap, i, size);
+    }
+}
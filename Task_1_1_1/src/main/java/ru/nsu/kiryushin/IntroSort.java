@@ -0,0 +1,120 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Introsort: quicksort with median-of-three pivots that switches to heap sort
+ * once the recursion gets deeper than {@code 2 * log2(n)}, and finishes
+ * small ranges with insertion sort.
+ */
+final class IntroSort {
+    /** Ranges of at most this length are insertion sorted. */
+    static final int INSERTION_THRESHOLD = 16;
+
+    private IntroSort() {
+    }
+
+    /**
+     * Sorts the range {@code [lo, hi)}.
+     *
+     * @param arr array to sort
+     * @param lo first index, inclusive
+     * @param hi last index, exclusive
+     */
+    static void sort(int[] arr, int lo, int hi) {
+        int n = hi - lo;
+        if (n < 2) {
+            return;
+        }
+        sort(arr, lo, hi, 2 * (31 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    /**
+     * Sorts the range {@code [lo, hi)} with the given depth budget.
+     *
+     * @param arr array to sort
+     * @param lo first index, inclusive
+     * @param hi last index, exclusive
+     * @param depth partitions left before falling back to heap sort
+     */
+    static void sort(int[] arr, int lo, int hi, int depth) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            if (depth == 0) {
+                SortUtil.heapSort(arr, lo, hi);
+                return;
+            }
+            --depth;
+            int split = partition(arr, lo, hi);
+            // recurse into the smaller side to keep the stack at O(log n)
+            if (split - lo < hi - split) {
+                sort(arr, lo, split, depth);
+                lo = split;
+            } else {
+                sort(arr, split, hi, depth);
+                hi = split;
+            }
+        }
+        insertionSort(arr, lo, hi);
+    }
+
+    /**
+     * Hoare partition around the median of the first, middle and last values.
+     *
+     * @param arr array
+     * @param lo first index, inclusive
+     * @param hi last index, exclusive
+     * @return index {@code s} such that {@code [lo, s)} holds no value greater than
+     *     any value of {@code [s, hi)}; both sides are non-empty
+     */
+    private static int partition(int[] arr, int lo, int hi) {
+        int mid = (lo + hi - 1) >>> 1;
+        int last = hi - 1;
+        if (arr[mid] < arr[lo]) {
+            swap(arr, mid, lo);
+        }
+        if (arr[last] < arr[mid]) {
+            swap(arr, last, mid);
+            if (arr[mid] < arr[lo]) {
+                swap(arr, mid, lo);
+            }
+        }
+        int pivot = arr[mid];
+        int i = lo - 1;
+        int j = hi;
+        while (true) {
+            do {
+                ++i;
+            } while (arr[i] < pivot);
+            do {
+                --j;
+            } while (arr[j] > pivot);
+            if (i >= j) {
+                return j + 1;
+            }
+            swap(arr, i, j);
+        }
+    }
+
+    /**
+     * Insertion sort of the range {@code [lo, hi)}.
+     *
+     * @param arr array
+     * @param lo first index, inclusive
+     * @param hi last index, exclusive
+     */
+    static void insertionSort(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; ++i) {
+            int value = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > value) {
+                arr[j + 1] = arr[j];
+                --j;
+            }
+            arr[j + 1] = value;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,195 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of primitive longs backed by a growable {@code long[]},
+ * e.g. for scheduling by timestamp without boxing.
+ *
+ * <p>Values are stored bitwise complemented: {@code ~a > ~b} exactly when
+ * {@code a < b}, so the array is a max-heap and the sifts are the ones
+ * {@link SortUtil} uses to sort {@code long[]}.
+ */
+public final class LongHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] heap;
+    private int size;
+
+    /**
+     * Creates an empty heap.
+     */
+    public LongHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty heap with room for {@code initialCapacity} values.
+     *
+     * @param initialCapacity initial capacity
+     */
+    public LongHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        heap = new long[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Creates a heap of the given values in O(n).
+     *
+     * @param values initial values, not modified
+     */
+    public LongHeap(long[] values) {
+        this(values.length);
+        pushAll(values);
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value value to add
+     */
+    public void push(long value) {
+        ensureCapacity(size + 1);
+        heap[size] = ~value;
+        SortUtil.siftUp(heap, size++);
+    }
+
+    /**
+     * Adds all values, rebuilding the heap in O(n) when that is cheaper than
+     * pushing them one by one.
+     *
+     * @param values values to add
+     */
+    public void pushAll(long[] values) {
+        ensureCapacity(size + values.length);
+        if (values.length > size) {
+            for (long value : values) {
+                heap[size++] = ~value;
+            }
+            for (int i = size / 2 - 1; i >= 0; --i) {
+                SortUtil.heapify(heap, i, size);
+            }
+        } else {
+            for (long value : values) {
+                push(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest value without removing it.
+     *
+     * @return smallest value
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return ~heap[0];
+    }
+
+    /**
+     * Removes and returns the smallest value.
+     *
+     * @return smallest value
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long pop() {
+        long top = peek();
+        heap[0] = heap[--size];
+        if (size > 0) {
+            SortUtil.heapify(heap, 0, size);
+        }
+        return top;
+    }
+
+    /**
+     * Lowers the value stored at {@code index} in O(log n).
+     *
+     * <p>The heap keeps no position index, so finding the position with
+     * {@link #indexOf(long)} costs O(n) and dominates the update.
+     *
+     * @param index position in the heap, e.g. from {@link #indexOf(long)}
+     * @param value new value, not greater than the current one
+     * @throws IllegalArgumentException if {@code value} is greater than the current value
+     */
+    public void decreaseKey(int index, long value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+        if (value > ~heap[index]) {
+            throw new IllegalArgumentException(
+                    "New key " + value + " is greater than " + ~heap[index]);
+        }
+        heap[index] = ~value;
+        SortUtil.siftUp(heap, index);
+    }
+
+    /**
+     * Returns the position of a value in the heap array, for key updates.
+     * Scans the heap in O(n).
+     *
+     * @param value value to look for
+     * @return its position, or -1 if it is not in the heap
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; ++i) {
+            if (heap[i] == ~value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of values in the heap.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the heap is empty.
+     *
+     * @return {@code true} if there are no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values, keeping the allocated storage.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the values in heap order.
+     *
+     * @return copy of the heap array
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+        for (int i = 0; i < size; ++i) {
+            values[i] = ~heap[i];
+        }
+        return values;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Heap is too large");
+        }
+        if (capacity > heap.length) {
+            long grown = Math.max(capacity, heap.length + (heap.length >> 1));
+            heap = Arrays.copyOf(heap, (int) Math.min(grown, Integer.MAX_VALUE - 8));
+        }
+    }
+}
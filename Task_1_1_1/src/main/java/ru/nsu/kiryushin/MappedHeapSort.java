@@ -0,0 +1,123 @@
+package ru.nsu.kiryushin;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * In-place heap sort of a binary file of ints through memory mappings.
+ * A single mapping may not exceed 2 GB, so the file is mapped as a row of
+ * windows of {@code 2^windowShift} ints and the heap is indexed with
+ * {@code long}s; a 4 GB file is sorted without copying it onto the Java heap.
+ */
+final class MappedHeapSort {
+    /** Largest window that fits in one mapping: 2^28 ints, 1 GB. */
+    static final int MAX_WINDOW_SHIFT = 28;
+
+    private final IntBuffer[] windows;
+    private final int shift;
+    private final int mask;
+
+    private MappedHeapSort(IntBuffer[] windows, int shift) {
+        this.windows = windows;
+        this.shift = shift;
+        this.mask = (1 << shift) - 1;
+    }
+
+    /**
+     * Sorts the ints of {@code file} in place.
+     *
+     * @param file file to sort
+     * @param order byte order the ints are stored in
+     * @param windowShift log2 of the number of ints per mapping
+     * @throws IOException if the file cannot be mapped or written
+     */
+    static void sort(Path file, ByteOrder order, int windowShift) throws IOException {
+        if (windowShift < 0 || windowShift > MAX_WINDOW_SHIFT) {
+            throw new IllegalArgumentException("window shift must be in 0.." + MAX_WINDOW_SHIFT
+                    + ": " + windowShift);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long bytes = channel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(
+                        "File length is not a multiple of " + Integer.BYTES + ": " + bytes);
+            }
+            long n = bytes / Integer.BYTES;
+            long window = 1L << windowShift;
+            MappedByteBuffer[] mapped = new MappedByteBuffer[(int) ((n + window - 1) / window)];
+            IntBuffer[] windows = new IntBuffer[mapped.length];
+            for (int w = 0; w < mapped.length; ++w) {
+                long start = w * window;
+                long size = Math.min(window, n - start) * Integer.BYTES;
+                mapped[w] = channel.map(FileChannel.MapMode.READ_WRITE,
+                        start * Integer.BYTES, size);
+                windows[w] = mapped[w].order(order).asIntBuffer();
+            }
+            new MappedHeapSort(windows, windowShift).sort(n);
+            for (MappedByteBuffer buf : mapped) {
+                buf.force();
+            }
+        }
+    }
+
+    private void sort(long n) {
+        for (long i = n / 2 - 1; i >= 0; --i) {
+            heapify(i, n);
+        }
+        for (long i = n - 1; i > 0; --i) {
+            int temp = get(0);
+            set(0, get(i));
+            set(i, temp);
+            heapify(0, i);
+        }
+    }
+
+    /**
+     * heapify with {@code long} indices, see {@link SortUtil#heapify(int[], int, int, int)}.
+     *
+     * @param i index
+     * @param n heap size
+     */
+    private void heapify(long i, long n) {
+        int value = get(i);
+        long hole = i;
+        long half = n >>> 1;
+        while (hole < half) {
+            long child = 2 * hole + 1;
+            int childValue = get(child);
+            if (child + 1 < n) {
+                int rightValue = get(child + 1);
+                if (rightValue > childValue) {
+                    child++;
+                    childValue = rightValue;
+                }
+            }
+            set(hole, childValue);
+            hole = child;
+        }
+        while (hole > i) {
+            long parent = (hole - 1) >>> 1;
+            int parentValue = get(parent);
+            if (parentValue >= value) {
+                break;
+            }
+            set(hole, parentValue);
+            hole = parent;
+        }
+        set(hole, value);
+    }
+
+    private int get(long i) {
+        return windows[(int) (i >>> shift)].get((int) i & mask);
+    }
+
+    private void set(long i, int value) {
+        windows[(int) (i >>> shift)].put((int) i & mask, value);
+    }
+}
@@ -0,0 +1,139 @@
+package ru.nsu.kiryushin;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel heap sort: every worker heap sorts its own chunk,
+ * then the sorted chunks are k-way merged through a min-heap of chunk heads.
+ */
+final class ParallelHeapSort {
+    /** Below this length splitting costs more than it saves. */
+    static final int MIN_CHUNK = 1 << 13;
+
+    private ParallelHeapSort() {
+    }
+
+    /**
+     * Sorts the array using up to {@code parallelism} threads.
+     *
+     * @param arr array to sort
+     * @param parallelism number of worker threads
+     */
+    static void sort(int[] arr, int parallelism) {
+        int n = arr.length;
+        int chunks = Math.min(parallelism, n / MIN_CHUNK);
+        if (chunks <= 1) {
+            SortUtil.heapSort(arr);
+            return;
+        }
+
+        int[] bounds = new int[chunks + 1];
+        for (int c = 0; c <= chunks; ++c) {
+            bounds[c] = (int) ((long) n * c / chunks);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(chunks);
+        try {
+            pool.invoke(new ChunkSort(arr, bounds, 0, chunks));
+        } finally {
+            pool.shutdown();
+        }
+
+        int[] merged = new int[n];
+        merge(arr, bounds, merged);
+        System.arraycopy(merged, 0, arr, 0, n);
+    }
+
+    /**
+     * Merges the sorted chunks {@code [bounds[c], bounds[c + 1])} into {@code out}.
+     *
+     * @param arr array with sorted chunks
+     * @param bounds chunk boundaries
+     * @param out destination array
+     */
+    static void merge(int[] arr, int[] bounds, int[] out) {
+        int k = bounds.length - 1;
+        // pos[c] is the head of chunk c, heap holds chunk ids ordered by their heads
+        int[] pos = new int[k];
+        int[] heap = new int[k];
+        int size = 0;
+        for (int c = 0; c < k; ++c) {
+            pos[c] = bounds[c];
+            if (bounds[c] < bounds[c + 1]) {
+                heap[size++] = c;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; --i) {
+            siftDown(arr, pos, heap, i, size);
+        }
+
+        int o = 0;
+        while (size > 0) {
+            int c = heap[0];
+            out[o++] = arr[pos[c]++];
+            if (pos[c] == bounds[c + 1]) {
+                heap[0] = heap[--size];
+            }
+            if (size > 0) {
+                siftDown(arr, pos, heap, 0, size);
+            }
+        }
+    }
+
+    /**
+     * Restores the min-heap of chunk ids keyed by their current heads.
+     *
+     * @param arr array with sorted chunks
+     * @param pos current head of each chunk
+     * @param heap chunk ids
+     * @param i index to sift down
+     * @param n heap size
+     */
+    private static void siftDown(int[] arr, int[] pos, int[] heap, int i, int n) {
+        int id = heap[i];
+        int key = arr[pos[id]];
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && arr[pos[heap[child + 1]]] < arr[pos[heap[child]]]) {
+                child++;
+            }
+            if (key <= arr[pos[heap[child]]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = id;
+    }
+
+    /**
+     * Splits the chunk range in half until a single chunk is left and heap sorts it.
+     */
+    private static final class ChunkSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int[] bounds;
+        private final int from;
+        private final int to;
+
+        ChunkSort(int[] arr, int[] bounds, int from, int to) {
+            this.arr = arr;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                SortUtil.heapSort(arr, bounds[from], bounds[to]);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkSort(arr, bounds, from, mid), new ChunkSort(arr, bounds, mid, to));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Receives events from an instrumented heap sort.
+ * Every method does nothing by default, so a listener only overrides what it needs.
+ * Plain {@link SortUtil#heapSort(int[])} runs the same code with {@link #NO_OP}.
+ */
+public interface SortListener {
+    /** Listener that ignores every event. */
+    SortListener NO_OP = new SortListener() {
+    };
+
+    /**
+     * Called before sorting starts.
+     *
+     * @param length number of elements to sort
+     */
+    default void onStart(int length) {
+    }
+
+    /**
+     * Called after every sift-down.
+     *
+     * @param depth number of levels the sift descended
+     * @param comparisons element comparisons made by the sift
+     * @param moves element writes made by the sift
+     */
+    default void onSift(int depth, int comparisons, int moves) {
+    }
+
+    /**
+     * Called when the heap root is exchanged with the last heap element.
+     */
+    default void onSwap() {
+    }
+
+    /**
+     * Called after sorting finishes.
+     *
+     * @param nanos wall time of the sort in nanoseconds
+     */
+    default void onFinish(long nanos) {
+    }
+}
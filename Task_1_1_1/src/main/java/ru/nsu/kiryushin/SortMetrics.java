@@ -0,0 +1,129 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+
+/**
+ * Listener that accumulates counters over one or more instrumented sorts.
+ * Not thread-safe: use one instance per sorting thread.
+ */
+public final class SortMetrics implements SortListener {
+    private static final int MAX_DEPTH = 32;
+
+    private long sorts;
+    private long elements;
+    private long comparisons;
+    private long swaps;
+    private long moves;
+    private long wallNanos;
+    private final long[] siftDepths = new long[MAX_DEPTH];
+
+    @Override
+    public void onStart(int length) {
+        sorts++;
+        elements += length;
+    }
+
+    @Override
+    public void onSift(int depth, int comparisons, int moves) {
+        this.comparisons += comparisons;
+        this.moves += moves;
+        siftDepths[Math.min(depth, MAX_DEPTH - 1)]++;
+    }
+
+    @Override
+    public void onSwap() {
+        swaps++;
+    }
+
+    @Override
+    public void onFinish(long nanos) {
+        wallNanos += nanos;
+    }
+
+    /**
+     * Returns the number of sorts recorded.
+     *
+     * @return sort count
+     */
+    public long getSorts() {
+        return sorts;
+    }
+
+    /**
+     * Returns the total number of elements sorted.
+     *
+     * @return element count
+     */
+    public long getElements() {
+        return elements;
+    }
+
+    /**
+     * Returns the number of element comparisons.
+     *
+     * @return comparison count
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the number of root/last exchanges.
+     *
+     * @return swap count
+     */
+    public long getSwaps() {
+        return swaps;
+    }
+
+    /**
+     * Returns the number of element writes made while sifting.
+     *
+     * @return move count
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * Returns the total wall time of the recorded sorts.
+     *
+     * @return time in nanoseconds
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Returns the sift-down depth histogram: element {@code d} counts sifts that
+     * descended {@code d} levels, the last element also counts deeper ones.
+     *
+     * @return copy of the histogram
+     */
+    public long[] getSiftDepthHistogram() {
+        return siftDepths.clone();
+    }
+
+    /**
+     * Clears all counters.
+     */
+    public void reset() {
+        sorts = 0;
+        elements = 0;
+        comparisons = 0;
+        swaps = 0;
+        moves = 0;
+        wallNanos = 0;
+        Arrays.fill(siftDepths, 0);
+    }
+
+    @Override
+    public String toString() {
+        return "SortMetrics{sorts=" + sorts
+                + ", elements=" + elements
+                + ", comparisons=" + comparisons
+                + ", swaps=" + swaps
+                + ", moves=" + moves
+                + ", wallNanos=" + wallNanos + "}";
+    }
+}
@@ -1,7 +1,22 @@
 package ru.nsu.kiryushin;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 /** Class for heap sort. */
 public final class SortUtil {
+    private static final boolean VECTOR_SUPPORTED = detectVectorSupport();
+
     /**
      * heapSort.
      *
@@ -10,14 +25,225 @@ public final class SortUtil {
      * @return sorted array
      */
     public static int[] heapSort(int[] arr) {
-        int n = arr.length;
+        return heapSort(arr, 0, arr.length);
+    }
+
+    /**
+     * heapSort that reports comparisons, swaps, sift depths and wall time to a listener.
+     * Runs the same code as {@link #heapSort(int[])}, which passes
+     * {@link SortListener#NO_OP}.
+     *
+     * @param arr array to sort
+     *
+     * @param listener receiver of the sort events, e.g. a {@link SortMetrics}
+     *
+     * @return sorted array
+     */
+    public static int[] heapSort(int[] arr, SortListener listener) {
+        Objects.requireNonNull(listener);
+        long start = System.nanoTime();
+        listener.onStart(arr.length);
+        sort(arr, 0, arr.length, listener);
+        listener.onFinish(System.nanoTime() - start);
+        return arr;
+    }
+
+    /**
+     * heapSort of the range {@code [fromIndex, toIndex)}.
+     *
+     * @param arr array to sort
+     *
+     * @param fromIndex first index, inclusive
+     *
+     * @param toIndex last index, exclusive
+     *
+     * @return array with the range sorted
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int[] heapSort(int[] arr, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        sort(arr, fromIndex, toIndex - fromIndex, SortListener.NO_OP);
+        return arr;
+    }
+
+    /**
+     * Heap sort of {@code n} elements starting at {@code base}.
+     *
+     * @param arr input array
+     *
+     * @param base index of the first element
+     *
+     * @param n number of elements
+     *
+     * @param listener receiver of the sift and swap events
+     */
+    private static void sort(int[] arr, int base, int n, SortListener listener) {
         // build max-heap
         for (int i = n / 2 - 1; i >= 0; --i) {
-            heapify(arr, i, n);
+            heapify(arr, base, i, n, listener);
         }
         // extract max to the end
         for (int i = n - 1; i > 0; --i) {
-            int temp = arr[0];
+            int temp = arr[base];
+            arr[base] = arr[base + i];
+            arr[base + i] = temp;
+            listener.onSwap();
+            heapify(arr, base, 0, i, listener);
+        }
+    }
+
+    /**
+     * heapSortIndices: the permutation that sorts {@code keys}, equal keys in index order.
+     *
+     * @param keys keys, not modified
+     *
+     * @return indices {@code p} such that {@code keys[p[0]] <= keys[p[1]] <= ...}
+     */
+    public static int[] heapSortIndices(int[] keys) {
+        return ColumnHeapSort.sortIndices(keys);
+    }
+
+    /**
+     * heapSort of a key column that permutes the payload columns the same way, in place.
+     *
+     * @param keys keys to sort
+     *
+     * @param payloads columns to permute along with the keys
+     *
+     * @return sorted keys
+     *
+     * @throws IllegalArgumentException if a payload length differs from the key length
+     */
+    public static int[] heapSort(int[] keys, int[]... payloads) {
+        for (int[] column : payloads) {
+            if (column.length != keys.length) {
+                throw new IllegalArgumentException("Payload length " + column.length
+                        + " differs from key length " + keys.length);
+            }
+        }
+        ColumnHeapSort.sort(keys, payloads);
+        return keys;
+    }
+
+    /**
+     * stableHeapSort of a key column: equal keys keep their order, and the payload
+     * columns are permuted along with the keys. Uses one {@code long[]} and one
+     * {@code int[]} of scratch space and no per-row objects.
+     *
+     * @param keys keys to sort
+     *
+     * @param payloads columns to permute along with the keys
+     *
+     * @return sorted keys
+     *
+     * @throws IllegalArgumentException if a payload length differs from the key length
+     */
+    public static int[] stableHeapSort(int[] keys, int[]... payloads) {
+        for (int[] column : payloads) {
+            if (column.length != keys.length) {
+                throw new IllegalArgumentException("Payload length " + column.length
+                        + " differs from key length " + keys.length);
+            }
+        }
+        StableHeapSort.sort(keys, payloads);
+        return keys;
+    }
+
+    /**
+     * stableHeapSort of objects: equal elements keep their order.
+     * Uses an {@code int[]} of indices and one array copy, no per-element objects.
+     *
+     * @param arr array to sort
+     *
+     * @param c comparator that defines the order
+     *
+     * @param <T> element type
+     *
+     * @return sorted array
+     */
+    public static <T> T[] stableHeapSort(T[] arr, Comparator<? super T> c) {
+        Objects.requireNonNull(c);
+        StableHeapSort.sort(arr, c);
+        return arr;
+    }
+
+    /**
+     * heapSort in place of the ints between the position and the limit of a buffer.
+     * Heap-backed buffers are sorted through their array, direct and mapped buffers
+     * through absolute gets and puts, so nothing is copied onto the Java heap.
+     *
+     * @param buf buffer to sort; position and limit are left unchanged
+     *
+     * @return the same buffer
+     *
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static IntBuffer heapSort(IntBuffer buf) {
+        if (buf.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        BufferHeapSort.sort(buf);
+        return buf;
+    }
+
+    /**
+     * heapSort in place of the ints stored between the position and the limit of a
+     * byte buffer, e.g. a direct buffer or a {@link java.nio.MappedByteBuffer}.
+     * A buffer holds at most 2 GB; larger files go through {@link #mappedHeapSort}.
+     *
+     * @param buf buffer to sort; position, limit and byte order are left unchanged
+     *
+     * @param order byte order the ints are stored in
+     *
+     * @return the same buffer
+     *
+     * @throws IllegalArgumentException if the remaining bytes are not a multiple of 4
+     *
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static ByteBuffer heapSort(ByteBuffer buf, ByteOrder order) {
+        if (buf.remaining() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException(
+                    "Remaining bytes are not a multiple of " + Integer.BYTES + ": "
+                            + buf.remaining());
+        }
+        heapSort(buf.duplicate().order(order).asIntBuffer());
+        return buf;
+    }
+
+    /**
+     * heapSort in place of a binary file of ints, e.g. one larger than the 2 GB a single
+     * {@link ByteBuffer} can map. The file is mapped as several 1 GB windows and sorted
+     * with {@code long} indices, so nothing is copied onto the Java heap; the file should
+     * fit in memory, otherwise use {@link #externalHeapSort(Path, Path)}.
+     *
+     * @param file file to sort
+     *
+     * @param order byte order the ints are stored in
+     *
+     * @throws IOException if the file cannot be mapped or written
+     *
+     * @throws IllegalArgumentException if the file length is not a multiple of 4
+     */
+    public static void mappedHeapSort(Path file, ByteOrder order) throws IOException {
+        MappedHeapSort.sort(file, order, MappedHeapSort.MAX_WINDOW_SHIFT);
+    }
+
+    /**
+     * heapSort for {@code long} values.
+     *
+     * @param arr array to sort
+     *
+     * @return sorted array
+     */
+    public static long[] heapSort(long[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(arr, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            long temp = arr[0];
             arr[0] = arr[i];
             arr[i] = temp;
             heapify(arr, 0, i);
@@ -25,33 +251,843 @@ public final class SortUtil {
         return arr;
     }
 
+    /**
+     * heapSort for {@code double} values.
+     * Orders values like {@link java.util.Arrays#sort(double[])}:
+     * {@code -0.0} before {@code 0.0}, NaN last.
+     *
+     * @param arr array to sort
+     *
+     * @return sorted array
+     */
+    public static double[] heapSort(double[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(arr, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            double temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, 0, i);
+        }
+        return arr;
+    }
+
+    /**
+     * heapSort for {@code float} values.
+     * Orders values like {@link java.util.Arrays#sort(float[])}.
+     *
+     * @param arr array to sort
+     *
+     * @return sorted array
+     */
+    public static float[] heapSort(float[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(arr, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            float temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, 0, i);
+        }
+        return arr;
+    }
+
+    /**
+     * heapSort for {@code short} values.
+     *
+     * @param arr array to sort
+     *
+     * @return sorted array
+     */
+    public static short[] heapSort(short[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(arr, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            short temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, 0, i);
+        }
+        return arr;
+    }
+
+    /**
+     * heapSort for objects in their natural order.
+     *
+     * @param arr array to sort
+     *
+     * @param <T> element type
+     *
+     * @return sorted array
+     */
+    public static <T extends Comparable<? super T>> T[] heapSort(T[] arr) {
+        return heapSort(arr, Comparator.naturalOrder());
+    }
+
+    /**
+     * heapSort for objects ordered by a comparator.
+     *
+     * @param arr array to sort
+     *
+     * @param c comparator that defines the order
+     *
+     * @param <T> element type
+     *
+     * @return sorted array
+     */
+    public static <T> T[] heapSort(T[] arr, Comparator<? super T> c) {
+        Objects.requireNonNull(c);
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(arr, c, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            T temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, c, 0, i);
+        }
+        return arr;
+    }
+
+    /**
+     * heapSort on a d-ary max-heap.
+     * Node {@code i} has children {@code d * i + 1 .. d * i + d}, so the
+     * children scanned on each level sit next to each other in memory and the
+     * heap is {@code log2(d)} times shallower than a binary one. With
+     * {@code d = 16} the children of a node span one 64-byte cache line and
+     * with {@code d = 4} or {@code d = 8} a half or a quarter of it.
+     *
+     * @param arr array to sort
+     *
+     * @param d heap arity, at least 2
+     *
+     * @return sorted array
+     *
+     * @throws IllegalArgumentException if {@code d} is less than 2
+     */
+    public static int[] daryHeapSort(int[] arr, int d) {
+        if (d < 2) {
+            throw new IllegalArgumentException("heap arity must be at least 2: " + d);
+        }
+        if (d == 2) {
+            return heapSort(arr);
+        }
+        int n = arr.length;
+        if (n < 2) {
+            return arr;
+        }
+        for (int i = (n - 2) / d; i >= 0; --i) {
+            daryHeapify(arr, d, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            daryHeapify(arr, d, 0, i);
+        }
+        return arr;
+    }
+
+    /**
+     * vectorHeapSort: 8-ary heap sort that selects the largest child with SIMD lanes
+     * through the incubating Vector API. Falls back to the scalar
+     * {@link #daryHeapSort(int[], int)} with the same arity when the
+     * {@code jdk.incubator.vector} module is not loaded (the JVM was started without
+     * {@code --add-modules jdk.incubator.vector}) or the CPU has no 256-bit vectors.
+     *
+     * @param arr array to sort
+     *
+     * @return sorted array
+     */
+    public static int[] vectorHeapSort(int[] arr) {
+        if (VECTOR_SUPPORTED) {
+            VectorHeapSort.sort(arr);
+            return arr;
+        }
+        return daryHeapSort(arr, 8);
+    }
+
+    /**
+     * Checks whether {@link #vectorHeapSort(int[])} runs on the vector unit.
+     *
+     * @return {@code true} if the Vector API path is used
+     */
+    public static boolean isVectorSortSupported() {
+        return VECTOR_SUPPORTED;
+    }
+
+    /**
+     * topK: the {@code k} largest values in descending order, in O(n log k).
+     * The input array is not modified.
+     *
+     * @param arr input array
+     *
+     * @param k number of values to select; larger values select the whole array
+     *
+     * @return the {@code min(k, arr.length)} largest values, largest first
+     *
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static int[] topK(int[] arr, int k) {
+        checkK(k);
+        int m = Math.min(k, arr.length);
+        if (m == 0) {
+            return new int[0];
+        }
+        // min-heap of the best m values seen so far, its root is the weakest of them
+        int[] heap = Arrays.copyOf(arr, m);
+        for (int i = m / 2 - 1; i >= 0; --i) {
+            heapifyMin(heap, i, m);
+        }
+        for (int i = m; i < arr.length; ++i) {
+            if (arr[i] > heap[0]) {
+                heap[0] = arr[i];
+                heapifyMin(heap, 0, m);
+            }
+        }
+        return drainMin(heap, m);
+    }
+
+    /**
+     * topK over a stream, keeping at most {@code k} values in memory.
+     *
+     * @param stream input values
+     *
+     * @param k number of values to select
+     *
+     * @return the {@code k} largest values (fewer if the stream is shorter), largest first
+     *
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static int[] topK(IntStream stream, int k) {
+        return topK(stream.iterator(), k);
+    }
+
+    /**
+     * topK over an iterator, keeping at most {@code k} values in memory.
+     *
+     * @param it input values
+     *
+     * @param k number of values to select
+     *
+     * @return the {@code k} largest values (fewer if the input is shorter), largest first
+     *
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static int[] topK(PrimitiveIterator.OfInt it, int k) {
+        checkK(k);
+        int[] heap = new int[Math.min(k, 16)];
+        int size = 0;
+        while (it.hasNext()) {
+            int value = it.nextInt();
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * size));
+                }
+                heap[size] = value;
+                siftUpMin(heap, size++);
+            } else if (k > 0 && value > heap[0]) {
+                heap[0] = value;
+                heapifyMin(heap, 0, size);
+            }
+        }
+        return drainMin(heap, size);
+    }
+
+    /**
+     * partialSort: moves the {@code k} smallest values to the front in ascending order,
+     * in O(n log k) and in place. The order of the remaining values is unspecified.
+     *
+     * @param arr array to rearrange
+     *
+     * @param k length of the sorted prefix; larger values sort the whole array
+     *
+     * @return the same array
+     *
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static int[] partialSort(int[] arr, int k) {
+        checkK(k);
+        int m = Math.min(k, arr.length);
+        // max-heap of the m smallest values seen so far in arr[0, m)
+        for (int i = m / 2 - 1; i >= 0; --i) {
+            heapify(arr, 0, i, m);
+        }
+        for (int i = m; i < arr.length; ++i) {
+            if (arr[i] < arr[0]) {
+                int temp = arr[0];
+                arr[0] = arr[i];
+                arr[i] = temp;
+                heapify(arr, 0, 0, m);
+            }
+        }
+        for (int i = m - 1; i > 0; --i) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, 0, 0, i);
+        }
+        return arr;
+    }
+
+    /**
+     * introSort: quicksort on average, heap sort once the recursion exceeds
+     * {@code 2 * log2(n)} levels and insertion sort on small ranges.
+     * Keeps the O(n log n) worst case of {@link #heapSort(int[])} with a much
+     * smaller constant on typical inputs.
+     *
+     * @param arr array to sort
+     *
+     * @return sorted array
+     */
+    public static int[] introSort(int[] arr) {
+        IntroSort.sort(arr, 0, arr.length);
+        return arr;
+    }
+
+    /**
+     * parallelHeapSort with one chunk per available processor.
+     *
+     * @param arr array to sort
+     *
+     * @return sorted array
+     */
+    public static int[] parallelHeapSort(int[] arr) {
+        return parallelHeapSort(arr, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * parallelHeapSort: heap sorts chunks in parallel and merges them.
+     *
+     * @param arr array to sort
+     *
+     * @param parallelism number of worker threads
+     *
+     * @return sorted array
+     *
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1
+     */
+    public static int[] parallelHeapSort(int[] arr, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        ParallelHeapSort.sort(arr, parallelism);
+        return arr;
+    }
+
+    /**
+     * sortAll: sorts every array of a batch on the common fork/join pool.
+     * Arrays of up to 32 elements are insertion sorted, longer ones heap sorted.
+     *
+     * @param arrays arrays to sort
+     *
+     * @return the same batch
+     */
+    public static int[][] sortAll(int[][] arrays) {
+        return sortAll(arrays, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * sortAll on the given pool.
+     *
+     * @param arrays arrays to sort
+     *
+     * @param pool pool to run on
+     *
+     * @return the same batch
+     */
+    public static int[][] sortAll(int[][] arrays, ForkJoinPool pool) {
+        BatchSorter.sortAll(arrays, pool);
+        return arrays;
+    }
+
+    /**
+     * sortSegments: sorts every segment {@code [offsets[s], offsets[s + 1])} of a flat
+     * buffer on the common fork/join pool.
+     *
+     * @param data flat buffer
+     *
+     * @param offsets non-decreasing segment boundaries within {@code data}
+     *
+     * @return the same buffer
+     *
+     * @throws IllegalArgumentException if the offsets are decreasing or out of bounds
+     */
+    public static int[] sortSegments(int[] data, int[] offsets) {
+        return sortSegments(data, offsets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * sortSegments on the given pool.
+     *
+     * @param data flat buffer
+     *
+     * @param offsets non-decreasing segment boundaries within {@code data}
+     *
+     * @param pool pool to run on
+     *
+     * @return the same buffer
+     *
+     * @throws IllegalArgumentException if the offsets are decreasing or out of bounds
+     */
+    public static int[] sortSegments(int[] data, int[] offsets, ForkJoinPool pool) {
+        for (int s = 0; s < offsets.length; ++s) {
+            if (offsets[s] < (s == 0 ? 0 : offsets[s - 1]) || offsets[s] > data.length) {
+                throw new IllegalArgumentException("Bad segment offset " + offsets[s]
+                        + " at " + s);
+            }
+        }
+        if (offsets.length > 1) {
+            BatchSorter.sortSegments(data, offsets, pool);
+        }
+        return data;
+    }
+
+    /**
+     * externalHeapSort of a binary file of big-endian ints that may not fit in memory.
+     *
+     * @param input file to sort
+     *
+     * @param output file to write the sorted ints to
+     *
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void externalHeapSort(Path input, Path output) throws IOException {
+        externalHeapSort(input, output, ExternalHeapSort.DEFAULT_RUN_LENGTH);
+    }
+
+    /**
+     * externalHeapSort: sorts runs of {@code runLength} ints in memory, writes them to
+     * memory-mapped temp files next to {@code output} and merges them.
+     *
+     * @param input file to sort
+     *
+     * @param output file to write the sorted ints to, must differ from {@code input}
+     *
+     * @param runLength number of ints sorted in memory at once
+     *
+     * @throws IOException if a file cannot be read or written
+     *
+     * @throws IllegalArgumentException if {@code runLength} is not positive or too large
+     *     to map, or the file length is not a multiple of 4
+     */
+    public static void externalHeapSort(Path input, Path output, int runLength)
+            throws IOException {
+        ExternalHeapSort.sort(input, output, runLength);
+    }
+
+    /**
+     * Probes for the Vector API without linking {@link VectorHeapSort} when the
+     * module is absent.
+     *
+     * @return {@code true} if the vector sort can be used
+     */
+    private static boolean detectVectorSupport() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorHeapSort.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
     /**
      * rearranges a heap to maintain the heap property.
+     * Uses Floyd's bottom-up sift-down: the hole is first walked down
+     * to a leaf along the larger children, then the displaced value is
+     * sifted back up, which needs about half the comparisons of the
+     * classic top-down variant and no recursion.
+     *
+     * @param arr input array
+     *
+     * @param base index of the heap root in {@code arr}
+     *
+     * @param i index relative to {@code base}
+     *
+     * @param n heap size
+     */
+    static void heapify(int[] arr, int base, int i, int n) {
+        heapify(arr, base, i, n, SortListener.NO_OP);
+    }
+
+    /**
+     * heapify that reports its work to a listener. With the constant
+     * {@link SortListener#NO_OP} the JIT inlines the empty call and drops the counters.
+     *
+     * @param arr input array
+     *
+     * @param base index of the heap root in {@code arr}
+     *
+     * @param i index relative to {@code base}
+     *
+     * @param n heap size
+     *
+     * @param listener receiver of the counts
+     */
+    private static void heapify(int[] arr, int base, int i, int n, SortListener listener) {
+        int comparisons = 0;
+        int moves = 0;
+        int depth = 0;
+        int value = arr[base + i];
+        int hole = i;
+        int half = n >>> 1;
+        // walk down to a leaf, pulling the larger child up each level
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n) {
+                comparisons++;
+                if (arr[base + child + 1] > arr[base + child]) {
+                    child++;
+                }
+            }
+            arr[base + hole] = arr[base + child];
+            moves++;
+            depth++;
+            hole = child;
+        }
+        // sift the value back up to its place on that path
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            comparisons++;
+            if (arr[base + parent] >= value) {
+                break;
+            }
+            arr[base + hole] = arr[base + parent];
+            moves++;
+            hole = parent;
+        }
+        arr[base + hole] = value;
+        moves++;
+        listener.onSift(depth, comparisons, moves);
+    }
+
+    /**
+     * Moves the value at {@code i} up a max-heap until its parent is not smaller.
      *
      * @param arr input array
      *
      * @param i index
+     */
+    static void siftUp(int[] arr, int i) {
+        int value = arr[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (arr[parent] >= value) {
+                break;
+            }
+            arr[i] = arr[parent];
+            i = parent;
+        }
+        arr[i] = value;
+    }
+
+    /**
+     * siftUp for {@code long} values, see {@link #siftUp(int[], int)}.
+     *
+     * @param arr input array
+     *
+     * @param i index
+     */
+    static void siftUp(long[] arr, int i) {
+        long value = arr[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (arr[parent] >= value) {
+                break;
+            }
+            arr[i] = arr[parent];
+            i = parent;
+        }
+        arr[i] = value;
+    }
+
+    /**
+     * heapify for a d-ary heap, bottom-up like {@link #heapify(int[], int, int, int)}.
+     *
+     * @param arr input array
+     *
+     * @param d heap arity
+     *
+     * @param i index
      *
      * @param n heap size
      */
-    private static void heapify(int[] arr, int i, int n) {
-        int largest = i;
-        int left = 2 * i + 1;
-        int right = 2 * i + 2;
-        if (left < n && arr[left] > arr[largest]) {
-            largest = left;
+    static void daryHeapify(int[] arr, int d, int i, int n) {
+        int value = arr[i];
+        int hole = i;
+        int lastParent = n < 2 ? -1 : (n - 2) / d;
+        while (hole <= lastParent) {
+            int first = d * hole + 1;
+            int end = n - first > d ? first + d : n;
+            int largest = first;
+            for (int child = first + 1; child < end; ++child) {
+                if (arr[child] > arr[largest]) {
+                    largest = child;
+                }
+            }
+            arr[hole] = arr[largest];
+            hole = largest;
         }
-        if (right < n && arr[right] > arr[largest]) {
-            largest = right;
+        while (hole > i) {
+            int parent = (hole - 1) / d;
+            if (arr[parent] >= value) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
         }
-        if (largest != i) {
-            int temp = arr[largest];
-            arr[largest] = arr[i];
-            arr[i] = temp;
-            heapify(arr, largest, n);
+        arr[hole] = value;
+    }
+
+    /**
+     * heapify for a min-heap, bottom-up like {@link #heapify(int[], int, int, int)}.
+     *
+     * @param arr input array
+     *
+     * @param i index
+     *
+     * @param n heap size
+     */
+    static void heapifyMin(int[] arr, int i, int n) {
+        int value = arr[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && arr[child + 1] < arr[child]) {
+                child++;
+            }
+            arr[hole] = arr[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (arr[parent] <= value) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
+        }
+        arr[hole] = value;
+    }
+
+    /**
+     * Moves the value at {@code i} up a min-heap until its parent is not greater.
+     *
+     * @param arr input array
+     *
+     * @param i index
+     */
+    static void siftUpMin(int[] arr, int i) {
+        int value = arr[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (arr[parent] <= value) {
+                break;
+            }
+            arr[i] = arr[parent];
+            i = parent;
         }
+        arr[i] = value;
+    }
+
+    /**
+     * Sorts a min-heap of {@code n} values in descending order.
+     *
+     * @param heap min-heap
+     *
+     * @param n heap size
+     *
+     * @return the first {@code n} values of the heap, largest first
+     */
+    private static int[] drainMin(int[] heap, int n) {
+        for (int i = n - 1; i > 0; --i) {
+            int temp = heap[0];
+            heap[0] = heap[i];
+            heap[i] = temp;
+            heapifyMin(heap, 0, i);
+        }
+        return heap.length == n ? heap : Arrays.copyOf(heap, n);
+    }
+
+    private static void checkK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+    }
+
+    /**
+     * heapify for {@code long} values, see {@link #heapify(int[], int, int, int)}.
+     *
+     * @param arr input array
+     *
+     * @param i index
+     *
+     * @param n heap size
+     */
+    static void heapify(long[] arr, int i, int n) {
+        long value = arr[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && arr[child + 1] > arr[child]) {
+                child++;
+            }
+            arr[hole] = arr[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (arr[parent] >= value) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
+        }
+        arr[hole] = value;
+    }
+
+    /**
+     * heapify for {@code double} values, see {@link #heapify(int[], int, int, int)}.
+     *
+     * @param arr input array
+     *
+     * @param i index
+     *
+     * @param n heap size
+     */
+    private static void heapify(double[] arr, int i, int n) {
+        double value = arr[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && Double.compare(arr[child + 1], arr[child]) > 0) {
+                child++;
+            }
+            arr[hole] = arr[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (Double.compare(arr[parent], value) >= 0) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
+        }
+        arr[hole] = value;
+    }
+
+    /**
+     * heapify for {@code float} values, see {@link #heapify(int[], int, int, int)}.
+     *
+     * @param arr input array
+     *
+     * @param i index
+     *
+     * @param n heap size
+     */
+    private static void heapify(float[] arr, int i, int n) {
+        float value = arr[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && Float.compare(arr[child + 1], arr[child]) > 0) {
+                child++;
+            }
+            arr[hole] = arr[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (Float.compare(arr[parent], value) >= 0) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
+        }
+        arr[hole] = value;
+    }
+
+    /**
+     * heapify for {@code short} values, see {@link #heapify(int[], int, int, int)}.
+     *
+     * @param arr input array
+     *
+     * @param i index
+     *
+     * @param n heap size
+     */
+    private static void heapify(short[] arr, int i, int n) {
+        short value = arr[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && arr[child + 1] > arr[child]) {
+                child++;
+            }
+            arr[hole] = arr[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (arr[parent] >= value) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
+        }
+        arr[hole] = value;
+    }
+
+    /**
+     * heapify for objects, see {@link #heapify(int[], int, int, int)}.
+     *
+     * @param arr input array
+     *
+     * @param c comparator
+     *
+     * @param i index
+     *
+     * @param n heap size
+     *
+     * @param <T> element type
+     */
+    private static <T> void heapify(T[] arr, Comparator<? super T> c, int i, int n) {
+        T value = arr[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && c.compare(arr[child + 1], arr[child]) > 0) {
+                child++;
+            }
+            arr[hole] = arr[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (c.compare(arr[parent], value) >= 0) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
+        }
+        arr[hole] = value;
     }
 
     public static void main(String[] args) {}
 }
-
@@ -0,0 +1,108 @@
+package ru.nsu.kiryushin;
+
+import java.util.Comparator;
+
+/**
+ * Stable sorting on top of heap sort: ties are broken by the original index,
+ * so equal keys keep their relative order. No objects are allocated per element.
+ */
+final class StableHeapSort {
+    private StableHeapSort() {
+    }
+
+    /**
+     * Sorts int keys stably and permutes the payload columns the same way.
+     * Each key is packed with its index into one {@code long}, the longs are
+     * heap sorted, and the index half drives the payload gather.
+     *
+     * @param keys keys to sort
+     * @param payloads columns with the same length as {@code keys}
+     */
+    static void sort(int[] keys, int[][] payloads) {
+        int n = keys.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; ++i) {
+            packed[i] = (long) keys[i] << 32 | i;
+        }
+        SortUtil.heapSort(packed);
+        for (int i = 0; i < n; ++i) {
+            keys[i] = (int) (packed[i] >> 32);
+        }
+        if (payloads.length == 0) {
+            return;
+        }
+        int[] column = new int[n];
+        for (int[] payload : payloads) {
+            System.arraycopy(payload, 0, column, 0, n);
+            for (int i = 0; i < n; ++i) {
+                payload[i] = column[(int) packed[i]];
+            }
+        }
+    }
+
+    /**
+     * Sorts objects stably.
+     *
+     * @param arr array to sort
+     * @param c comparator that defines the order
+     * @param <T> element type
+     */
+    static <T> void sort(T[] arr, Comparator<? super T> c) {
+        int n = arr.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; ++i) {
+            idx[i] = i;
+        }
+        for (int i = n / 2 - 1; i >= 0; --i) {
+            heapify(arr, c, idx, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            int temp = idx[0];
+            idx[0] = idx[i];
+            idx[i] = temp;
+            heapify(arr, c, idx, 0, i);
+        }
+        T[] copy = arr.clone();
+        for (int i = 0; i < n; ++i) {
+            arr[i] = copy[idx[i]];
+        }
+    }
+
+    /**
+     * heapify on indices ordered by element, then by index.
+     *
+     * @param arr elements
+     * @param c comparator
+     * @param idx indices forming the heap
+     * @param i index
+     * @param n heap size
+     * @param <T> element type
+     */
+    private static <T> void heapify(T[] arr, Comparator<? super T> c, int[] idx, int i, int n) {
+        int value = idx[i];
+        int hole = i;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            if (child + 1 < n && greater(arr, c, idx[child + 1], idx[child])) {
+                child++;
+            }
+            idx[hole] = idx[child];
+            hole = child;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) >>> 1;
+            if (!greater(arr, c, value, idx[parent])) {
+                break;
+            }
+            idx[hole] = idx[parent];
+            hole = parent;
+        }
+        idx[hole] = value;
+    }
+
+    private static <T> boolean greater(T[] arr, Comparator<? super T> c, int a, int b) {
+        int cmp = c.compare(arr[a], arr[b]);
+        return cmp > 0 || cmp == 0 && a > b;
+    }
+}
@@ -0,0 +1,93 @@
+package ru.nsu.kiryushin;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 8-ary heap sort whose sift-down picks the largest of eight children with
+ * one 256-bit vector load, a lane-wise max reduction and a lane compare.
+ * Only touch this class after {@link SortUtil#isVectorSortSupported()} returned
+ * {@code true}: it needs the {@code jdk.incubator.vector} module at runtime.
+ */
+final class VectorHeapSort {
+    static final int ARITY = 8;
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+
+    private VectorHeapSort() {
+    }
+
+    /**
+     * Checks that the hardware vectors are wide enough for eight int lanes,
+     * e.g. AVX2; otherwise the Vector API would run in slow emulation.
+     *
+     * @return {@code true} if the vector path should be used
+     */
+    static boolean isSupported() {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= SPECIES.vectorBitSize();
+    }
+
+    /**
+     * Sorts the array on an 8-ary max-heap.
+     *
+     * @param arr array to sort
+     */
+    static void sort(int[] arr) {
+        int n = arr.length;
+        if (n < 2) {
+            return;
+        }
+        for (int i = (n - 2) / ARITY; i >= 0; --i) {
+            heapify(arr, i, n);
+        }
+        for (int i = n - 1; i > 0; --i) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, 0, i);
+        }
+    }
+
+    /**
+     * heapify for an 8-ary heap, see {@link SortUtil#daryHeapify(int[], int, int, int)}.
+     * Full groups of children are scanned with the vector unit, the last partial
+     * group with scalar code.
+     *
+     * @param arr input array
+     * @param i index
+     * @param n heap size
+     */
+    private static void heapify(int[] arr, int i, int n) {
+        int value = arr[i];
+        int hole = i;
+        int lastParent = n < 2 ? -1 : (n - 2) / ARITY;
+        while (hole <= lastParent) {
+            int first = ARITY * hole + 1;
+            int largest;
+            if (n - first >= ARITY) {
+                IntVector children = IntVector.fromArray(SPECIES, arr, first);
+                int max = children.reduceLanes(VectorOperators.MAX);
+                largest = first + children.eq(max).firstTrue();
+            } else {
+                largest = first;
+                for (int child = first + 1; child < n; ++child) {
+                    if (arr[child] > arr[largest]) {
+                        largest = child;
+                    }
+                }
+            }
+            arr[hole] = arr[largest];
+            hole = largest;
+        }
+        while (hole > i) {
+            int parent = (hole - 1) / ARITY;
+            if (arr[parent] >= value) {
+                break;
+            }
+            arr[hole] = arr[parent];
+            hole = parent;
+        }
+        arr[hole] = value;
+    }
+}
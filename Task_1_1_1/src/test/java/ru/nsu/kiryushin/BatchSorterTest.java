@@ -0,0 +1,79 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class BatchSorterTest {
+    @Test
+    void testSortAllMixedLengths() {
+        Random random = new Random(12);
+        int[][] arrays = new int[2000][];
+        int[][] expected = new int[arrays.length][];
+        for (int i = 0; i < arrays.length; ++i) {
+            arrays[i] = new int[random.nextInt(200)];
+            for (int j = 0; j < arrays[i].length; ++j) {
+                arrays[i][j] = random.nextInt();
+            }
+            expected[i] = arrays[i].clone();
+            Arrays.sort(expected[i]);
+        }
+        SortUtil.sortAll(arrays);
+        for (int i = 0; i < arrays.length; ++i) {
+            assertArrayEquals(expected[i], arrays[i]);
+        }
+    }
+
+    @Test
+    void testSortAllOnDedicatedPool() {
+        int[][] arrays = {{3, 1, 2}, {}, {5}, {9, 8, 7, 6, 5, 4, 3, 2, 1, 0}};
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            SortUtil.sortAll(arrays, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(new int[] {1, 2, 3}, arrays[0]);
+        assertArrayEquals(new int[0], arrays[1]);
+        assertArrayEquals(new int[] {5}, arrays[2]);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, arrays[3]);
+    }
+
+    @Test
+    void testSortSegmentsLeavesTailUntouched() {
+        Random random = new Random(13);
+        int[] offsets = new int[501];
+        for (int s = 1; s < offsets.length; ++s) {
+            offsets[s] = offsets[s - 1] + random.nextInt(100);
+        }
+        int[] data = new int[offsets[500] + 3];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = random.nextInt(1000);
+        }
+        int[] expected = data.clone();
+        for (int s = 0; s < 500; ++s) {
+            Arrays.sort(expected, offsets[s], offsets[s + 1]);
+        }
+        assertArrayEquals(expected, SortUtil.sortSegments(data, offsets));
+    }
+
+    @Test
+    void testSortSegmentsWithoutSegments() {
+        assertArrayEquals(new int[] {2, 1}, SortUtil.sortSegments(new int[] {2, 1}, new int[0]));
+        assertArrayEquals(new int[] {2, 1}, SortUtil.sortSegments(new int[] {2, 1}, new int[] {1}));
+    }
+
+    @Test
+    void testSortSegmentsRejectsBadOffsets() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.sortSegments(new int[4], new int[] {0, 3, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.sortSegments(new int[4], new int[] {0, 5}));
+    }
+}
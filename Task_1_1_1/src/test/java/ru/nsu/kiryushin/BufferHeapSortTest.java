@@ -0,0 +1,93 @@
+package ru.nsu.kiryushin;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class BufferHeapSortTest {
+    private static int[] randomArray(int n, long seed) {
+        Random random = new Random(seed);
+        int[] arr = new int[n];
+        for (int i = 0; i < n; ++i) {
+            arr[i] = random.nextInt();
+        }
+        return arr;
+    }
+
+    @Test
+    void testDirectBufferInBothByteOrders() {
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            int[] values = randomArray(10_000, 1);
+            ByteBuffer buf = ByteBuffer.allocateDirect(values.length * Integer.BYTES);
+            buf.duplicate().order(order).asIntBuffer().put(values);
+
+            SortUtil.heapSort(buf, order);
+
+            int[] sorted = new int[values.length];
+            buf.duplicate().order(order).asIntBuffer().get(sorted);
+            Arrays.sort(values);
+            assertArrayEquals(values, sorted);
+        }
+    }
+
+    @Test
+    void testOnlyRemainingBytesAreSorted() {
+        ByteBuffer buf = ByteBuffer.allocateDirect(5 * Integer.BYTES);
+        buf.asIntBuffer().put(new int[] {9, 3, 2, 1, 0});
+        buf.position(Integer.BYTES).limit(4 * Integer.BYTES);
+
+        SortUtil.heapSort(buf, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(Integer.BYTES, buf.position());
+        int[] all = new int[5];
+        buf.clear();
+        buf.asIntBuffer().get(all);
+        assertArrayEquals(new int[] {9, 1, 2, 3, 0}, all);
+    }
+
+    @Test
+    void testHeapIntBufferSlice() {
+        int[] backing = {5, 4, 3, 2, 1, 0};
+        IntBuffer slice = IntBuffer.wrap(backing, 1, 4).slice();
+        SortUtil.heapSort(slice);
+        assertArrayEquals(new int[] {5, 1, 2, 3, 4, 0}, backing);
+    }
+
+    @Test
+    void testDirectIntBuffer() {
+        int[] values = randomArray(1000, 2);
+        IntBuffer buf = ByteBuffer.allocateDirect(values.length * Integer.BYTES)
+                .order(ByteOrder.nativeOrder()).asIntBuffer();
+        buf.put(values).flip();
+
+        SortUtil.heapSort(buf);
+
+        int[] sorted = new int[values.length];
+        buf.get(sorted);
+        Arrays.sort(values);
+        assertArrayEquals(values, sorted);
+    }
+
+    @Test
+    void testRejectsPartialInt() {
+        ByteBuffer buf = ByteBuffer.allocate(6);
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.heapSort(buf, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    void testRejectsReadOnlyBuffer() {
+        IntBuffer buf = IntBuffer.wrap(new int[] {2, 1}).asReadOnlyBuffer();
+        assertThrows(ReadOnlyBufferException.class, () -> SortUtil.heapSort(buf));
+    }
+}
@@ -0,0 +1,80 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class ColumnHeapSortTest {
+    @Test
+    void testIndicesSortKeysWithoutModifyingThem() {
+        int[] keys = {30, 10, 20, 10};
+        int[] copy = keys.clone();
+        assertArrayEquals(new int[] {1, 3, 2, 0}, SortUtil.heapSortIndices(keys));
+        assertArrayEquals(copy, keys);
+    }
+
+    @Test
+    void testIndicesOfEmptyArray() {
+        assertArrayEquals(new int[0], SortUtil.heapSortIndices(new int[0]));
+    }
+
+    @Test
+    void testIndicesRandomAgainstSort() {
+        Random random = new Random(4);
+        int[] keys = new int[10_000];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = random.nextInt(100);
+        }
+        int[] perm = SortUtil.heapSortIndices(keys);
+        int[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < keys.length; ++i) {
+            assertEquals(sorted[i], keys[perm[i]]);
+        }
+    }
+
+    @Test
+    void testPayloadsFollowKeys() {
+        int[] keys = {3, 1, 2};
+        int[] ids = {100, 101, 102};
+        int[] weights = {7, 8, 9};
+        SortUtil.heapSort(keys, ids, weights);
+        assertArrayEquals(new int[] {1, 2, 3}, keys);
+        assertArrayEquals(new int[] {101, 102, 100}, ids);
+        assertArrayEquals(new int[] {8, 9, 7}, weights);
+    }
+
+    @Test
+    void testPayloadsRandomAgainstSort() {
+        Random random = new Random(5);
+        int n = 20_000;
+        int[] keys = new int[n];
+        int[] rows = new int[n];
+        for (int i = 0; i < n; ++i) {
+            keys[i] = random.nextInt(1000);
+            rows[i] = i;
+        }
+        int[] original = keys.clone();
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+
+        SortUtil.heapSort(keys, rows);
+
+        assertArrayEquals(expected, keys);
+        for (int i = 0; i < n; ++i) {
+            assertEquals(keys[i], original[rows[i]]);
+        }
+    }
+
+    @Test
+    void testRejectsPayloadOfWrongLength() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.heapSort(new int[] {2, 1}, new int[] {1}));
+    }
+}
@@ -0,0 +1,89 @@
+package ru.nsu.kiryushin;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class ExternalHeapSortTest {
+    @TempDir
+    Path dir;
+
+    private Path write(int[] values) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Integer.BYTES);
+        buf.asIntBuffer().put(values);
+        Path file = dir.resolve("input.bin");
+        Files.write(file, buf.array());
+        return file;
+    }
+
+    private static int[] read(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(values);
+        return values;
+    }
+
+    @Test
+    void testSortsAcrossManyRuns() throws IOException {
+        Random random = new Random(3);
+        int[] values = new int[100_003];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextInt();
+        }
+        Path output = dir.resolve("output.bin");
+        SortUtil.externalHeapSort(write(values), output, 1000);
+
+        Arrays.sort(values);
+        assertArrayEquals(values, read(output));
+    }
+
+    @Test
+    void testSingleRun() throws IOException {
+        Path output = dir.resolve("output.bin");
+        SortUtil.externalHeapSort(write(new int[] {3, -1, 2}), output);
+        assertArrayEquals(new int[] {-1, 2, 3}, read(output));
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        Path output = dir.resolve("output.bin");
+        SortUtil.externalHeapSort(write(new int[0]), output, 4);
+        assertArrayEquals(new int[0], read(output));
+    }
+
+    @Test
+    void testTempRunsAreDeleted() throws IOException {
+        Path output = dir.resolve("output.bin");
+        SortUtil.externalHeapSort(write(new int[] {5, 4, 3, 2, 1}), output, 2);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void testRejectsTruncatedFile() throws IOException {
+        Path input = dir.resolve("broken.bin");
+        Files.write(input, new byte[] {1, 2, 3});
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.externalHeapSort(input, dir.resolve("output.bin"), 4));
+    }
+
+    @Test
+    void testRejectsBadRunLength() throws IOException {
+        Path input = write(new int[] {1});
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.externalHeapSort(input, dir.resolve("output.bin"), 0));
+    }
+}
@@ -0,0 +1,83 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class IncrementalSorterTest {
+    @Test
+    void testSmallestAcrossBatches() {
+        IncrementalSorter sorter = new IncrementalSorter();
+        sorter.addBatch(new int[] {9, 4, 7});
+        assertArrayEquals(new int[] {4, 7}, sorter.smallest(2));
+
+        sorter.addBatch(new int[] {5, 1});
+        assertArrayEquals(new int[] {1, 4, 5}, sorter.smallest(3));
+        assertEquals(5, sorter.size());
+    }
+
+    @Test
+    void testSingleValueBelowPrefix() {
+        IncrementalSorter sorter = new IncrementalSorter();
+        sorter.addBatch(new int[] {10, 20, 30});
+        sorter.smallest(3);
+        sorter.add(15);
+        sorter.add(40);
+        assertArrayEquals(new int[] {10, 15, 20, 30, 40}, sorter.drain());
+        assertEquals(0, sorter.size());
+    }
+
+    @Test
+    void testLargeBatchBelowPrefix() {
+        IncrementalSorter sorter = new IncrementalSorter();
+        int[] first = new int[100];
+        int[] second = new int[100];
+        for (int i = 0; i < 100; ++i) {
+            first[i] = 1000 + i;
+            second[i] = i;
+        }
+        sorter.addBatch(first);
+        assertArrayEquals(Arrays.copyOf(first, 50), sorter.smallest(50));
+        sorter.addBatch(second);
+        assertArrayEquals(Arrays.copyOf(second, 50), sorter.smallest(50));
+    }
+
+    @Test
+    void testRandomBatchesAgainstSort() {
+        Random random = new Random(9);
+        IncrementalSorter sorter = new IncrementalSorter();
+        int[] all = new int[0];
+        for (int b = 0; b < 50; ++b) {
+            int[] batch = new int[random.nextInt(200)];
+            for (int i = 0; i < batch.length; ++i) {
+                batch[i] = random.nextInt(10_000);
+            }
+            sorter.addBatch(batch);
+            int[] grown = Arrays.copyOf(all, all.length + batch.length);
+            System.arraycopy(batch, 0, grown, all.length, batch.length);
+            all = grown;
+
+            int[] expected = all.clone();
+            Arrays.sort(expected);
+            int n = random.nextInt(100);
+            assertArrayEquals(Arrays.copyOf(expected, Math.min(n, expected.length)),
+                    sorter.smallest(n));
+        }
+        Arrays.sort(all);
+        assertArrayEquals(all, sorter.drain());
+    }
+
+    @Test
+    void testSmallestMoreThanSize() {
+        IncrementalSorter sorter = new IncrementalSorter();
+        sorter.add(3);
+        assertArrayEquals(new int[] {3}, sorter.smallest(10));
+        assertThrows(IllegalArgumentException.class, () -> sorter.smallest(-1));
+    }
+}
@@ -0,0 +1,49 @@
+package ru.nsu.kiryushin;
+
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class IntMaxHeapTest {
+    @Test
+    void testPopReturnsLargestFirst() {
+        IntMaxHeap heap = new IntMaxHeap(new int[] {5, -1, 3, 10});
+        heap.push(7);
+        assertEquals(10, heap.pop());
+        assertEquals(7, heap.pop());
+        assertEquals(5, heap.pop());
+        assertEquals(3, heap.peek());
+    }
+
+    @Test
+    void testRandomOperationsMatchPriorityQueue() {
+        Random random = new Random(2);
+        IntMaxHeap heap = new IntMaxHeap(1);
+        PriorityQueue<Integer> expected = new PriorityQueue<>(Collections.reverseOrder());
+        for (int i = 0; i < 10_000; ++i) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int value = random.nextInt(1000);
+                heap.push(value);
+                expected.add(value);
+            } else {
+                assertEquals(expected.poll(), heap.pop());
+            }
+        }
+        assertEquals(expected.size(), heap.size());
+    }
+
+    @Test
+    void testIncreaseKey() {
+        IntMaxHeap heap = new IntMaxHeap(new int[] {9, 4, 2});
+        heap.increaseKey(heap.indexOf(2), 20);
+        assertEquals(20, heap.pop());
+        assertEquals(9, heap.pop());
+        assertThrows(IllegalArgumentException.class, () -> heap.increaseKey(0, 1));
+    }
+}
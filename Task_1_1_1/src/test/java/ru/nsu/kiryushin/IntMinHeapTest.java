@@ -0,0 +1,84 @@
+package ru.nsu.kiryushin;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class IntMinHeapTest {
+    @Test
+    void testPopReturnsValuesInAscendingOrder() {
+        IntMinHeap heap = new IntMinHeap();
+        for (int value : new int[] {5, -1, 3, 3, 10, 0}) {
+            heap.push(value);
+        }
+        assertEquals(6, heap.size());
+        assertEquals(-1, heap.peek());
+        int[] popped = new int[6];
+        for (int i = 0; i < popped.length; ++i) {
+            popped[i] = heap.pop();
+        }
+        assertArrayEquals(new int[] {-1, 0, 3, 3, 5, 10}, popped);
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void testBulkHeapifyMatchesPriorityQueue() {
+        Random random = new Random(1);
+        int[] values = new int[5000];
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextInt();
+            expected.add(values[i]);
+        }
+        IntMinHeap heap = new IntMinHeap(values);
+        heap.pushAll(new int[] {7, 8});
+        expected.add(7);
+        expected.add(8);
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), heap.pop());
+        }
+    }
+
+    @Test
+    void testDecreaseKeyMovesValueUp() {
+        IntMinHeap heap = new IntMinHeap(new int[] {4, 6, 8, 10});
+        heap.decreaseKey(heap.indexOf(10), 1);
+        assertEquals(1, heap.pop());
+        assertEquals(4, heap.pop());
+        assertEquals(-1, heap.indexOf(10));
+    }
+
+    @Test
+    void testDecreaseKeyRejectsLargerValue() {
+        IntMinHeap heap = new IntMinHeap(new int[] {4});
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.decreaseKey(1, 0));
+    }
+
+    @Test
+    void testEmptyHeapThrows() {
+        IntMinHeap heap = new IntMinHeap(0);
+        assertThrows(NoSuchElementException.class, heap::peek);
+        assertThrows(NoSuchElementException.class, heap::pop);
+        assertThrows(IllegalArgumentException.class, () -> new IntMinHeap(-1));
+    }
+
+    @Test
+    void testClearKeepsHeapUsable() {
+        IntMinHeap heap = new IntMinHeap(new int[] {3, 2, 1});
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        heap.push(9);
+        assertFalse(heap.isEmpty());
+        assertArrayEquals(new int[] {9}, heap.toArray());
+    }
+}
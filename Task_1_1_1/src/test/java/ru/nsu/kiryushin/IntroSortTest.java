@@ -0,0 +1,86 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+
+class IntroSortTest {
+    private static void assertSorts(int[] arr) {
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, SortUtil.introSort(arr));
+    }
+
+    @Test
+    void testSmallArrays() {
+        Random random = new Random(1);
+        for (int n = 0; n < 100; ++n) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; ++i) {
+                arr[i] = random.nextInt(20) - 10;
+            }
+            assertSorts(arr);
+        }
+    }
+
+    @Test
+    void testLargeRandomArray() {
+        Random random = new Random(2);
+        int[] arr = new int[200_000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt();
+        }
+        assertSorts(arr);
+    }
+
+    @Test
+    void testAllEqualArray() {
+        int[] arr = new int[10_000];
+        Arrays.fill(arr, 7);
+        assertSorts(arr);
+    }
+
+    @Test
+    void testSortedAndReversedArrays() {
+        int[] sorted = new int[10_000];
+        int[] reversed = new int[10_000];
+        for (int i = 0; i < sorted.length; ++i) {
+            sorted[i] = i;
+            reversed[i] = -i;
+        }
+        assertSorts(sorted);
+        assertSorts(reversed);
+    }
+
+    @Test
+    void testMedianOfThreeKiller() {
+        int n = 10_000;
+        int half = n / 2;
+        int[] arr = new int[n];
+        for (int i = 1; i <= half; ++i) {
+            if (i % 2 == 1) {
+                arr[i - 1] = i;
+                arr[i] = half + i;
+            }
+            arr[half + i - 1] = 2 * i;
+        }
+        assertSorts(arr);
+    }
+
+    @Test
+    void testZeroDepthFallsBackToHeapSort() {
+        Random random = new Random(3);
+        int[] arr = new int[1000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        IntroSort.sort(arr, 0, arr.length, 0);
+        assertArrayEquals(expected, arr);
+    }
+}
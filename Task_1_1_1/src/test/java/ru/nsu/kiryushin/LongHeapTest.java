@@ -0,0 +1,74 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class LongHeapTest {
+    @Test
+    void testPopReturnsSmallestFirst() {
+        LongHeap heap = new LongHeap();
+        heap.push(Long.MAX_VALUE);
+        heap.push(1_700_000_000_000L);
+        heap.push(Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, heap.pop());
+        assertEquals(1_700_000_000_000L, heap.pop());
+        assertEquals(Long.MAX_VALUE, heap.pop());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void testBulkHeapifyMatchesPriorityQueue() {
+        Random random = new Random(3);
+        long[] values = new long[5000];
+        PriorityQueue<Long> expected = new PriorityQueue<>();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextLong();
+            expected.add(values[i]);
+        }
+        LongHeap heap = new LongHeap(values);
+        heap.pushAll(new long[] {1L});
+        expected.add(1L);
+        assertEquals(expected.size(), heap.size());
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), heap.pop());
+        }
+    }
+
+    @Test
+    void testDecreaseKey() {
+        LongHeap heap = new LongHeap(new long[] {10L, 20L, 30L});
+        heap.decreaseKey(heap.indexOf(30L), 5L);
+        assertEquals(5L, heap.peek());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 100L));
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.decreaseKey(3, 0L));
+        assertEquals(-1, heap.indexOf(30L));
+    }
+
+    @Test
+    void testToArrayReturnsStoredValues() {
+        LongHeap heap = new LongHeap(new long[] {3L, -1L, 0L, Long.MIN_VALUE});
+        long[] values = heap.toArray();
+        assertEquals(Long.MIN_VALUE, values[0]);
+        Arrays.sort(values);
+        assertArrayEquals(new long[] {Long.MIN_VALUE, -1L, 0L, 3L}, values);
+    }
+
+    @Test
+    void testEmptyAndClear() {
+        LongHeap heap = new LongHeap(new long[] {1L, 2L});
+        heap.clear();
+        assertThrows(NoSuchElementException.class, heap::pop);
+        assertArrayEquals(new long[0], heap.toArray());
+        assertThrows(IllegalArgumentException.class, () -> new LongHeap(-1));
+    }
+}
@@ -0,0 +1,80 @@
+package ru.nsu.kiryushin;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class MappedHeapSortTest {
+    @TempDir
+    Path dir;
+
+    private Path write(int[] values, ByteOrder order) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        buf.asIntBuffer().put(values);
+        Path file = dir.resolve("data.bin");
+        Files.write(file, buf.array());
+        return file;
+    }
+
+    private static int[] read(Path file, ByteOrder order) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).order(order).asIntBuffer().get(values);
+        return values;
+    }
+
+    @Test
+    void testSortsAcrossManyWindows() throws IOException {
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            Random random = new Random(4);
+            int[] values = new int[1000];
+            for (int i = 0; i < values.length; ++i) {
+                values[i] = random.nextInt();
+            }
+            Path file = write(values, order);
+
+            MappedHeapSort.sort(file, order, 4);
+
+            Arrays.sort(values);
+            assertArrayEquals(values, read(file, order));
+        }
+    }
+
+    @Test
+    void testPublicEntryPoint() throws IOException {
+        Path file = write(new int[] {3, -1, 2, Integer.MIN_VALUE, 0}, ByteOrder.LITTLE_ENDIAN);
+        SortUtil.mappedHeapSort(file, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 0, 2, 3},
+                read(file, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        Path file = write(new int[0], ByteOrder.BIG_ENDIAN);
+        SortUtil.mappedHeapSort(file, ByteOrder.BIG_ENDIAN);
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    void testRejectsBadInput() throws IOException {
+        Path file = dir.resolve("odd.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.mappedHeapSort(file, ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedHeapSort.sort(file, ByteOrder.BIG_ENDIAN,
+                        MappedHeapSort.MAX_WINDOW_SHIFT + 1));
+    }
+}
@@ -0,0 +1,67 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class ParallelHeapSortTest {
+    private static int[] randomArray(int n, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] arr = new int[n];
+        for (int i = 0; i < n; ++i) {
+            arr[i] = random.nextInt(bound) - bound / 2;
+        }
+        return arr;
+    }
+
+    @Test
+    void testSmallArrayFallsBackToSequential() {
+        int[] arr = {2, 3, 1, 4, 53, 3};
+        int[] expected = {1, 2, 3, 3, 4, 53};
+        assertArrayEquals(expected, SortUtil.parallelHeapSort(arr, 4));
+    }
+
+    @Test
+    void testEmptyArray() {
+        int[] arr = {};
+        assertArrayEquals(new int[0], SortUtil.parallelHeapSort(arr));
+    }
+
+    @Test
+    void testLargeRandomArrayWithDifferentThreadCounts() {
+        for (int threads = 1; threads <= 8; ++threads) {
+            int[] arr = randomArray(100_003, Integer.MAX_VALUE, threads);
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, SortUtil.parallelHeapSort(arr, threads));
+        }
+    }
+
+    @Test
+    void testManyDuplicates() {
+        int[] arr = randomArray(200_000, 8, 3);
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, SortUtil.parallelHeapSort(arr, 5));
+    }
+
+    @Test
+    void testMergeOfSortedChunks() {
+        int[] arr = {1, 4, 9, 2, 3, 10, 0, 5};
+        int[] bounds = {0, 3, 3, 6, 8};
+        int[] out = new int[arr.length];
+        ParallelHeapSort.merge(arr, bounds, out);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 9, 10}, out);
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.parallelHeapSort(new int[] {1}, 0));
+    }
+}
@@ -0,0 +1,74 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+class SortMetricsTest {
+    @Test
+    void testInstrumentedSortStillSorts() {
+        Random random = new Random(8);
+        int[] arr = new int[10_000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, SortUtil.heapSort(arr, new SortMetrics()));
+    }
+
+    @Test
+    void testCountersAreCollected() {
+        int n = 1 << 12;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; ++i) {
+            arr[i] = n - i;
+        }
+        SortMetrics metrics = new SortMetrics();
+        SortUtil.heapSort(arr, metrics);
+
+        assertEquals(1, metrics.getSorts());
+        assertEquals(n, metrics.getElements());
+        assertEquals(n - 1, metrics.getSwaps());
+        assertTrue(metrics.getComparisons() > n);
+        assertTrue(metrics.getComparisons() < 2L * n * 12);
+        assertTrue(metrics.getMoves() > 0);
+        assertTrue(metrics.getWallNanos() > 0);
+
+        long sifts = Arrays.stream(metrics.getSiftDepthHistogram()).sum();
+        assertEquals(n / 2 + n - 1, sifts);
+    }
+
+    @Test
+    void testResetClearsCounters() {
+        SortMetrics metrics = new SortMetrics();
+        SortUtil.heapSort(new int[] {3, 1, 2}, metrics);
+        metrics.reset();
+
+        assertEquals(0, metrics.getSorts());
+        assertEquals(0, metrics.getComparisons());
+        assertEquals(0, metrics.getSwaps());
+        assertEquals(0, metrics.getMoves());
+        assertEquals(0, metrics.getWallNanos());
+        assertArrayEquals(new long[32], metrics.getSiftDepthHistogram());
+    }
+
+    @Test
+    void testNoOpListener() {
+        int[] arr = {2, 3, 1};
+        assertArrayEquals(new int[] {1, 2, 3}, SortUtil.heapSort(arr, SortListener.NO_OP));
+    }
+
+    @Test
+    void testToStringContainsCounters() {
+        SortMetrics metrics = new SortMetrics();
+        SortUtil.heapSort(new int[] {2, 1}, metrics);
+        assertTrue(metrics.toString().contains("swaps=1"));
+    }
+}
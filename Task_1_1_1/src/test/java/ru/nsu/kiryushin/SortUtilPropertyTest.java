@@ -0,0 +1,118 @@
+package ru.nsu.kiryushin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Generated inputs for every int sort of {@link SortUtil}, checked against
+ * {@link Arrays#sort(int[])}. Sizes go up to {@code sort.maxSize}
+ * (10^6 by default, run with {@code -Psort.maxSize=100000000} for the full 10^8).
+ */
+class SortUtilPropertyTest {
+    private static final String[] DISTRIBUTIONS = {
+        "random", "sorted", "reversed", "allEqual", "sawtooth", "organPipe", "fewUnique"
+    };
+
+    private static final int[] SIZES = {
+        0, 1, 2, 3, 7, 16, 17, 100, 1000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000
+    };
+
+    private static final List<Sorter> SORTERS = List.of(
+            new Sorter("heapSort", SortUtil::heapSort),
+            new Sorter("introSort", SortUtil::introSort),
+            new Sorter("daryHeapSort4", arr -> SortUtil.daryHeapSort(arr, 4)),
+            new Sorter("vectorHeapSort", SortUtil::vectorHeapSort),
+            new Sorter("parallelHeapSort", SortUtil::parallelHeapSort));
+
+    /** Named sorting function, so test names say which sort failed. */
+    private static final class Sorter {
+        private final String name;
+        private final UnaryOperator<int[]> sort;
+
+        Sorter(String name, UnaryOperator<int[]> sort) {
+            this.name = name;
+            this.sort = sort;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static Stream<Arguments> cases() {
+        long maxSize = Long.getLong("sort.maxSize", 1_000_000L);
+        List<Arguments> cases = new ArrayList<>();
+        for (int size : SIZES) {
+            if (size > maxSize) {
+                continue;
+            }
+            for (String distribution : DISTRIBUTIONS) {
+                for (Sorter sorter : SORTERS) {
+                    cases.add(Arguments.of(sorter, distribution, size));
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    /**
+     * Generates an input with the given distribution.
+     *
+     * @param distribution distribution name
+     * @param size array length
+     * @param seed random seed
+     * @return generated array
+     */
+    static int[] generate(String distribution, int size, long seed) {
+        Random random = new Random(seed);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; ++i) {
+            switch (distribution) {
+                case "random":
+                    arr[i] = random.nextInt();
+                    break;
+                case "sorted":
+                    arr[i] = i;
+                    break;
+                case "reversed":
+                    arr[i] = size - i;
+                    break;
+                case "allEqual":
+                    arr[i] = 42;
+                    break;
+                case "sawtooth":
+                    arr[i] = i % 1000;
+                    break;
+                case "organPipe":
+                    arr[i] = Math.min(i, size - 1 - i);
+                    break;
+                case "fewUnique":
+                    arr[i] = random.nextInt(4) - 2;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return arr;
+    }
+
+    @ParameterizedTest(name = "{0} {1} n={2}")
+    @MethodSource("cases")
+    void testMatchesArraysSort(Sorter sorter, String distribution, int size) {
+        int[] arr = generate(distribution, size, size * 31L + distribution.hashCode());
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorter.sort.apply(arr));
+    }
+}
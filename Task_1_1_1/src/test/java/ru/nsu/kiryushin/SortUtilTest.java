@@ -1,11 +1,14 @@
 package ru.nsu.kiryushin;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 class SortUtilTest {
@@ -73,4 +76,174 @@ class SortUtilTest {
 
         assertArrayEquals(expected, SortUtil.heapSort(arr));
     }
+
+    @Test
+    void testManyDuplicatesArray() {
+        Random random = new Random(7);
+        int[] arr = new int[10_000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt(4);
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, SortUtil.heapSort(arr));
+    }
+
+    @Test
+    void testReversedArray() {
+        int[] arr = new int[1000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = arr.length - i;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, SortUtil.heapSort(arr));
+    }
+
+    @Test
+    void testLongArray() {
+        long[] arr = {Long.MAX_VALUE, 3L, -7L, Long.MIN_VALUE, 3L};
+        long[] expected = {Long.MIN_VALUE, -7L, 3L, 3L, Long.MAX_VALUE};
+        assertArrayEquals(expected, SortUtil.heapSort(arr));
+    }
+
+    @Test
+    void testDoubleArrayOrdersSignedZerosAndNaN() {
+        double[] arr = {Double.NaN, 0.0, 2.5, -0.0, Double.NEGATIVE_INFINITY, -1.5};
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, SortUtil.heapSort(arr));
+    }
+
+    @Test
+    void testFloatArray() {
+        float[] arr = {1.5f, Float.NaN, -0.0f, 0.0f, -3f, Float.MAX_VALUE};
+        float[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, SortUtil.heapSort(arr));
+    }
+
+    @Test
+    void testShortArray() {
+        short[] arr = {Short.MAX_VALUE, 0, -5, Short.MIN_VALUE, 12};
+        short[] expected = {Short.MIN_VALUE, -5, 0, 12, Short.MAX_VALUE};
+        assertArrayEquals(expected, SortUtil.heapSort(arr));
+    }
+
+    @Test
+    void testComparableArray() {
+        String[] arr = {"pear", "apple", "fig", "banana"};
+        String[] expected = {"apple", "banana", "fig", "pear"};
+        assertArrayEquals(expected, SortUtil.heapSort(arr));
+    }
+
+    @Test
+    void testComparatorArray() {
+        Random random = new Random(11);
+        Integer[] arr = new Integer[1000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt(100);
+        }
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+        assertArrayEquals(expected, SortUtil.heapSort(arr, Comparator.reverseOrder()));
+    }
+
+    @Test
+    void testRangeSortLeavesOutsideUntouched() {
+        int[] arr = {9, 5, 4, 3, 2, 0};
+        int[] expected = {9, 2, 3, 4, 5, 0};
+        assertArrayEquals(expected, SortUtil.heapSort(arr, 1, 5));
+    }
+
+    @Test
+    void testRangeSortRejectsBadRange() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> SortUtil.heapSort(new int[3], 2, 4));
+    }
+
+    @Test
+    void testDaryHeapSortForDifferentArities() {
+        Random random = new Random(5);
+        for (int d : new int[] {2, 3, 4, 8, 16}) {
+            for (int n = 0; n < 200; ++n) {
+                int[] arr = new int[n];
+                for (int i = 0; i < n; ++i) {
+                    arr[i] = random.nextInt(50) - 25;
+                }
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+                assertArrayEquals(expected, SortUtil.daryHeapSort(arr, d));
+            }
+        }
+    }
+
+    @Test
+    void testDaryHeapSortRejectsBadArity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.daryHeapSort(new int[] {2, 1}, 1));
+    }
+
+    @Test
+    void testTopKReturnsLargestDescending() {
+        int[] arr = {5, 1, 9, 3, 9, -2, 7};
+        int[] copy = arr.clone();
+        assertArrayEquals(new int[] {9, 9, 7}, SortUtil.topK(arr, 3));
+        assertArrayEquals(copy, arr);
+    }
+
+    @Test
+    void testTopKWithKLargerThanArray() {
+        assertArrayEquals(new int[] {3, 2, 1}, SortUtil.topK(new int[] {2, 3, 1}, 10));
+        assertArrayEquals(new int[0], SortUtil.topK(new int[] {2, 3, 1}, 0));
+    }
+
+    @Test
+    void testTopKFromStream() {
+        assertArrayEquals(new int[] {999_999, 999_998},
+                SortUtil.topK(IntStream.range(0, 1_000_000), 2));
+        assertArrayEquals(new int[] {4, 3}, SortUtil.topK(IntStream.of(3, 4), 100));
+    }
+
+    @Test
+    void testTopKRandomAgainstSort() {
+        Random random = new Random(13);
+        int[] arr = new int[50_000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt();
+        }
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        int[] expected = new int[100];
+        for (int i = 0; i < expected.length; ++i) {
+            expected[i] = sorted[sorted.length - 1 - i];
+        }
+        assertArrayEquals(expected, SortUtil.topK(arr, 100));
+        assertArrayEquals(expected, SortUtil.topK(Arrays.stream(arr).iterator(), 100));
+    }
+
+    @Test
+    void testPartialSortSortsPrefix() {
+        Random random = new Random(17);
+        int[] arr = new int[10_000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt(1000);
+        }
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        SortUtil.partialSort(arr, 50);
+        assertArrayEquals(Arrays.copyOf(sorted, 50), Arrays.copyOf(arr, 50));
+        Arrays.sort(arr);
+        assertArrayEquals(sorted, arr);
+    }
+
+    @Test
+    void testTopKRejectsNegativeK() {
+        assertThrows(IllegalArgumentException.class, () -> SortUtil.topK(new int[] {1}, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.partialSort(new int[] {1}, -1));
+    }
 }
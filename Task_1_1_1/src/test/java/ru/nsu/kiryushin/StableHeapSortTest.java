@@ -0,0 +1,75 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+class StableHeapSortTest {
+    @Test
+    void testEqualKeysKeepPayloadOrder() {
+        int[] keys = {2, 1, 2, 1, 2};
+        int[] rows = {0, 1, 2, 3, 4};
+        SortUtil.stableHeapSort(keys, rows);
+        assertArrayEquals(new int[] {1, 1, 2, 2, 2}, keys);
+        assertArrayEquals(new int[] {1, 3, 0, 2, 4}, rows);
+    }
+
+    @Test
+    void testExtremeKeys() {
+        int[] keys = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1};
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE},
+                SortUtil.stableHeapSort(keys));
+    }
+
+    @Test
+    void testColumnsMatchStableJdkSort() {
+        Random random = new Random(6);
+        int n = 20_000;
+        int[] keys = new int[n];
+        int[] rows = new int[n];
+        int[] weights = new int[n];
+        int[][] expected = new int[n][];
+        for (int i = 0; i < n; ++i) {
+            keys[i] = random.nextInt(50);
+            rows[i] = i;
+            weights[i] = -i;
+            expected[i] = new int[] {keys[i], i};
+        }
+        Arrays.sort(expected, Comparator.comparingInt(row -> row[0]));
+
+        SortUtil.stableHeapSort(keys, rows, weights);
+
+        for (int i = 0; i < n; ++i) {
+            assertEquals(expected[i][0], keys[i]);
+            assertEquals(expected[i][1], rows[i]);
+            assertEquals(-expected[i][1], weights[i]);
+        }
+    }
+
+    @Test
+    void testObjectsMatchStableJdkSort() {
+        Random random = new Random(7);
+        String[] arr = new String[5000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt(30) + ":" + i;
+        }
+        Comparator<String> byPrefix = Comparator.comparingInt(
+                s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+        String[] expected = arr.clone();
+        Arrays.sort(expected, byPrefix);
+        assertArrayEquals(expected, SortUtil.stableHeapSort(arr, byPrefix));
+    }
+
+    @Test
+    void testRejectsPayloadOfWrongLength() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SortUtil.stableHeapSort(new int[] {1, 2}, new int[3]));
+    }
+}
@@ -0,0 +1,56 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+
+class VectorHeapSortTest {
+    @Test
+    void testSortsArraysOfEverySmallLength() {
+        Random random = new Random(10);
+        for (int n = 0; n < 300; ++n) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; ++i) {
+                arr[i] = random.nextInt(n + 1) - n / 2;
+            }
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, SortUtil.vectorHeapSort(arr));
+        }
+    }
+
+    @Test
+    void testLargeRandomArray() {
+        Random random = new Random(11);
+        int[] arr = new int[100_000];
+        for (int i = 0; i < arr.length; ++i) {
+            arr[i] = random.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, SortUtil.vectorHeapSort(arr));
+    }
+
+    @Test
+    void testExtremeValuesAndTies() {
+        int[] arr = new int[64];
+        Arrays.fill(arr, Integer.MAX_VALUE);
+        arr[5] = Integer.MIN_VALUE;
+        arr[40] = 0;
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, SortUtil.vectorHeapSort(arr));
+    }
+
+    @Test
+    void testCapabilityCheckMatchesHardware() {
+        if (SortUtil.isVectorSortSupported()) {
+            assertEquals(true, VectorHeapSort.isSupported());
+        }
+    }
+}
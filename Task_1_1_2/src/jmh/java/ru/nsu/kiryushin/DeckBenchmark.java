@@ -0,0 +1,73 @@
+package ru.nsu.kiryushin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Latency of one reshuffle: resetting a {@link Deck} in place against building
+ * a new one and against the former list of fresh {@link Card}s shuffled by
+ * {@link Collections#shuffle(List, Random)}. Allocation per operation is
+ * reported by the {@code gc} profiler configured in the build.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeckBenchmark {
+    @Param({"1", "8"})
+    private int numDecks;
+
+    @Param({"Random", "SplittableRandom", "Xoshiro256PlusPlus"})
+    private String generator;
+
+    private RandomGenerator random;
+    private Random legacyRandom;
+    private Deck deck;
+
+    /**
+     * Creates the generator and the reusable deck once per trial.
+     */
+    @Setup
+    public void prepare() {
+        random = RandomGenerator.of(generator);
+        legacyRandom = new Random(42);
+        deck = Deck.create(numDecks, random);
+    }
+
+    @Benchmark
+    public Deck reshuffleInPlace() {
+        deck.reshuffle();
+        return deck;
+    }
+
+    @Benchmark
+    public Deck createNew() {
+        return Deck.create(numDecks, random);
+    }
+
+    @Benchmark
+    public List<Card> legacyListShuffle() {
+        List<Card> cards = new ArrayList<>(numDecks * 52);
+        for (int i = 0; i < numDecks; i++) {
+            for (int suit = 0; suit < 4; suit++) {
+                for (int rank = 0; rank < 13; rank++) {
+                    cards.add(new Card(rank, suit));
+                }
+            }
+        }
+        Collections.shuffle(cards, legacyRandom);
+        return cards;
+    }
+}
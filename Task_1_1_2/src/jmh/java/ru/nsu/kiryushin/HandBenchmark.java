@@ -0,0 +1,135 @@
+package ru.nsu.kiryushin;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Hand scoring inside the simulation loop: the incremental {@link Hand} total
+ * against a full rescan of the cards as {@code getSumHand()} used to do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HandBenchmark {
+    private static final int ROUNDS = 1_000;
+
+    private Deck deck;
+    private CompactShoe shoe;
+    private final CompactHand compactPlayer = new CompactHand();
+    private final CompactHand compactDealer = new CompactHand();
+    private final Strategy strategy = Strategy.standOn(17);
+
+    /**
+     * Creates the decks once per trial.
+     */
+    @Setup
+    public void prepare() {
+        deck = Deck.create(6, new Random(42));
+        shoe = new CompactShoe(6, new Random(42));
+    }
+
+    /**
+     * Rounds played with the incremental {@link Hand}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public int incrementalHand() {
+        int balance = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            Game.ensureDeckHasCards(deck);
+            balance += Simulator.playRound(deck, strategy);
+        }
+        return balance;
+    }
+
+    /**
+     * The same rounds scored by rescanning every card after each draw.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public int rescanHand() {
+        int balance = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            Game.ensureDeckHasCards(deck);
+            balance += playRescanRound(deck);
+        }
+        return balance;
+    }
+
+    /**
+     * Rounds played with byte-encoded cards for reference.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public int compactHand() {
+        int balance = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            if (shoe.needsReshuffle()) {
+                shoe.reshuffle();
+            }
+            balance += Simulator.playRound(shoe, compactPlayer, compactDealer, strategy);
+        }
+        return balance;
+    }
+
+    private int playRescanRound(Deck deck) {
+        Hand player = new Hand(deck.getCard(), deck.getCard());
+        Hand dealer = new Hand(deck.getCard(), deck.getCard());
+        int sumPlayer = rescan(player);
+        int sumDealer = rescan(dealer);
+        if (sumDealer == Game.BLACKJACK) {
+            return sumPlayer == Game.BLACKJACK ? 0 : -1;
+        } else if (sumPlayer == Game.BLACKJACK) {
+            return 1;
+        }
+        int dealerUp = dealer.getHand().get(0).getValue();
+        while (sumPlayer < Game.BLACKJACK
+                && strategy.shouldHit(sumPlayer, rescanSoft(player), dealerUp)) {
+            player.addCard(deck.getCard());
+            sumPlayer = rescan(player);
+        }
+        if (sumPlayer > Game.BLACKJACK) {
+            return -1;
+        }
+        while (Game.dealerMustHit(sumDealer)) {
+            dealer.addCard(deck.getCard());
+            sumDealer = rescan(dealer);
+        }
+        return Game.settle(sumPlayer, sumDealer);
+    }
+
+    private static int rescan(Hand hand) {
+        int sum = 0;
+        int aces = 0;
+        for (Card c : hand.getHand()) {
+            sum += c.getValue();
+            if ("Туз".equals(c.getRankName())) {
+                aces++;
+            }
+        }
+        while (sum > 21 && aces > 0) {
+            sum -= 10;
+            aces--;
+        }
+        return sum;
+    }
+
+    private static boolean rescanSoft(Hand hand) {
+        int hard = 0;
+        boolean ace = false;
+        for (Card c : hand.getHand()) {
+            hard += c.isAce() ? 1 : c.getValue();
+            ace |= "Туз".equals(c.getRankName());
+        }
+        return ace && hard + 10 <= 21;
+    }
+}
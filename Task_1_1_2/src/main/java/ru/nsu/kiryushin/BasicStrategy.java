@@ -0,0 +1,282 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Basic strategy backed by precomputed decision tables.
+ *
+ * <p>Tables are indexed by player total, softness and dealer up-card value and
+ * are filled once by dynamic programming over the card composition of a full
+ * shoe: the dealer's final-total distribution is computed for every up-card
+ * under the rules of {@link Game} (the dealer draws below 17 and a dealer
+ * natural ends the round before the player acts), then the expected value of
+ * standing, hitting, doubling and splitting is compared for every player hand.
+ * Card probabilities are taken from the full shoe and are not updated as cards
+ * are dealt. After construction every decision is a single array read.
+ */
+public class BasicStrategy implements Strategy {
+    private static final int STATES = 2 * (Game.BLACKJACK + 1);
+    private static final int UP_CARDS = 12;
+    private static final int BUST = 5;
+
+    private final Decision[] twoCard = new Decision[STATES * UP_CARDS];
+    private final Decision[] pairs = new Decision[UP_CARDS * UP_CARDS];
+    private final boolean[] hit = new boolean[STATES * UP_CARDS];
+
+    /**
+     * Builds tables for a shoe with the given card counts.
+     *
+     * @param counts number of cards of every Blackjack value, indexed 2..11
+     */
+    private BasicStrategy(int[] counts) {
+        double total = 0;
+        for (int v = 2; v <= 11; v++) {
+            total += counts[v];
+        }
+        double[] p = new double[12];
+        for (int v = 2; v <= 11; v++) {
+            p[v] = counts[v] / total;
+        }
+        for (int up = 2; up <= 11; up++) {
+            fill(p, up, dealerFinal(p, up));
+        }
+    }
+
+    /**
+     * Computes the tables for a shoe of standard packs.
+     *
+     * @param numDecks number of 52-card packs
+     * @return basic strategy for that shoe
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     */
+    public static BasicStrategy forDecks(int numDecks) {
+        if (numDecks < 1 || numDecks > 8) {
+            throw new IllegalArgumentException(
+                    "Количество колод должно быть от 1 до 8 включительно!");
+        }
+        int[] counts = new int[12];
+        for (int rank = 0; rank < 13; rank++) {
+            counts[new Card(rank, 0).getValue()] += 4 * numDecks;
+        }
+        return new BasicStrategy(counts);
+    }
+
+    /**
+     * Looks up the best action for a two-card hand that is not a pair.
+     *
+     * @param total player total (4..21)
+     * @param soft {@code true} if an Ace is counted as 11
+     * @param dealerUp value of the dealer's open card (2..11)
+     * @return {@link Decision#HIT}, {@link Decision#STAND} or {@link Decision#DOUBLE}
+     */
+    public Decision decide(int total, boolean soft, int dealerUp) {
+        return twoCard[index(total, soft, dealerUp)];
+    }
+
+    /**
+     * Looks up the best action for a pair.
+     *
+     * @param cardValue value of each card of the pair (2..11)
+     * @param dealerUp value of the dealer's open card (2..11)
+     * @return {@link Decision#SPLIT} or the best action for the unsplit hand
+     */
+    public Decision decidePair(int cardValue, int dealerUp) {
+        return pairs[cardValue * UP_CARDS + dealerUp];
+    }
+
+    /**
+     * Hit/stand decision for games without doubling and splitting.
+     *
+     * @param total current player total (at most 21)
+     * @param soft {@code true} if an Ace in the hand is still counted as 11
+     * @param dealerUp Blackjack value of the dealer's open card (2..11)
+     * @return {@code true} to hit, {@code false} to stand
+     */
+    @Override
+    public boolean shouldHit(int total, boolean soft, int dealerUp) {
+        return hit[index(total, soft, dealerUp)];
+    }
+
+    private static int index(int total, boolean soft, int dealerUp) {
+        return ((soft ? Game.BLACKJACK + 1 : 0) + total) * UP_CARDS + dealerUp;
+    }
+
+    /**
+     * Distribution of the dealer's final total given the up-card and no natural.
+     *
+     * @param p card value probabilities
+     * @param up dealer up-card value
+     * @return probabilities of 17..21 at indices 0..4 and of a bust at index 5
+     */
+    private static double[] dealerFinal(double[] p, int up) {
+        double[][][] memo = new double[Game.BLACKJACK + 11][2][];
+        double[] dist = new double[BUST + 1];
+        double kept = 0;
+        for (int hole = 2; hole <= 11; hole++) {
+            if (up + hole == Game.BLACKJACK) {
+                continue;
+            }
+            kept += p[hole];
+            double[] next = dealerDraw(p, hard(up) + hard(hole), up == 11 || hole == 11, memo);
+            for (int k = 0; k <= BUST; k++) {
+                dist[k] += p[hole] * next[k];
+            }
+        }
+        for (int k = 0; k <= BUST; k++) {
+            dist[k] /= kept;
+        }
+        return dist;
+    }
+
+    private static double[] dealerDraw(double[] p, int hard, boolean ace, double[][][] memo) {
+        int a = ace ? 1 : 0;
+        if (memo[hard][a] != null) {
+            return memo[hard][a];
+        }
+        double[] dist = new double[BUST + 1];
+        int total = total(hard, ace);
+        if (hard > Game.BLACKJACK) {
+            dist[BUST] = 1;
+        } else if (!Game.dealerMustHit(total)) {
+            dist[total - Game.DEALER_STANDS_ON] = 1;
+        } else {
+            for (int v = 2; v <= 11; v++) {
+                double[] next = dealerDraw(p, hard + hard(v), ace || v == 11, memo);
+                for (int k = 0; k <= BUST; k++) {
+                    dist[k] += p[v] * next[k];
+                }
+            }
+        }
+        memo[hard][a] = dist;
+        return dist;
+    }
+
+    /**
+     * Fills all table cells for one dealer up-card.
+     */
+    private void fill(double[] p, int up, double[] dealer) {
+        double[] stand = new double[Game.BLACKJACK + 1];
+        for (int t = 2; t <= Game.BLACKJACK; t++) {
+            double ev = dealer[BUST];
+            for (int d = Game.DEALER_STANDS_ON; d <= Game.BLACKJACK; d++) {
+                ev += dealer[d - Game.DEALER_STANDS_ON] * Integer.signum(t - d);
+            }
+            stand[t] = ev;
+        }
+
+        // best[hard][ace] and hitEv[hard][ace] for hands that may keep drawing
+        double[][] best = new double[Game.BLACKJACK + 1][2];
+        double[][] hitEv = new double[Game.BLACKJACK + 1][2];
+        for (int hard = Game.BLACKJACK; hard >= 2; hard--) {
+            for (int a = 0; a <= 1; a++) {
+                double ev = 0;
+                for (int v = 2; v <= 11; v++) {
+                    ev += p[v] * after(best, hard + hard(v), a == 1 || v == 11);
+                }
+                hitEv[hard][a] = ev;
+                int total = total(hard, a == 1);
+                best[hard][a] = total == Game.BLACKJACK ? stand[total] : Math.max(stand[total], ev);
+            }
+        }
+
+        for (int hard = 2; hard <= Game.BLACKJACK; hard++) {
+            for (int a = 0; a <= 1; a++) {
+                boolean soft = a == 1 && hard + 10 <= Game.BLACKJACK;
+                int total = total(hard, a == 1);
+                if (total < 4 || (a == 1) != soft) {
+                    continue;
+                }
+                int i = index(total, soft, up);
+                hit[i] = total < Game.BLACKJACK && hitEv[hard][a] > stand[total];
+                twoCard[i] = choose(stand[total], total < Game.BLACKJACK ? hitEv[hard][a] : -2,
+                        total < Game.BLACKJACK ? doubleEv(p, hard, a == 1, stand) : -2);
+            }
+        }
+
+        for (int v = 2; v <= 11; v++) {
+            int hard = 2 * hard(v);
+            boolean ace = v == 11;
+            int total = total(hard, ace);
+            Decision unsplit = twoCard[index(total, ace, up)];
+            double unsplitEv = evOf(unsplit, stand[total], hitEv[hard][ace ? 1 : 0],
+                    doubleEv(p, hard, ace, stand));
+            pairs[v * UP_CARDS + up] = splitEv(p, v, stand, hitEv) > unsplitEv
+                    ? Decision.SPLIT : unsplit;
+        }
+    }
+
+    /**
+     * Value of a hand after a draw, playing on optimally.
+     */
+    private static double after(double[][] best, int hard, boolean ace) {
+        if (hard > Game.BLACKJACK) {
+            return -1;
+        }
+        return best[hard][ace ? 1 : 0];
+    }
+
+    private static double doubleEv(double[] p, int hard, boolean ace, double[] stand) {
+        double ev = 0;
+        for (int v = 2; v <= 11; v++) {
+            int next = hard + hard(v);
+            ev += p[v] * (next > Game.BLACKJACK ? -1 : stand[total(next, ace || v == 11)]);
+        }
+        return 2 * ev;
+    }
+
+    /**
+     * Expected value of splitting a pair: each hand gets one more card and is
+     * played with stand/hit/double, except split Aces that take one card only.
+     */
+    private static double splitEv(double[] p, int v, double[] stand, double[][] hitEv) {
+        double ev = 0;
+        for (int w = 2; w <= 11; w++) {
+            int hard = hard(v) + hard(w);
+            boolean ace = v == 11 || w == 11;
+            int total = total(hard, ace);
+            double hand = stand[total];
+            if (v != 11 && total < Game.BLACKJACK) {
+                double dbl = doubleEv(p, hard, ace, stand);
+                hand = Math.max(hand, Math.max(hitEv[hard][ace ? 1 : 0], dbl));
+            }
+            ev += p[w] * hand;
+        }
+        return 2 * ev;
+    }
+
+    private static Decision choose(double stand, double hit, double dbl) {
+        Decision best = Decision.STAND;
+        double bestEv = stand;
+        if (hit > bestEv) {
+            best = Decision.HIT;
+            bestEv = hit;
+        }
+        if (dbl > bestEv) {
+            best = Decision.DOUBLE;
+        }
+        return best;
+    }
+
+    private static double evOf(Decision decision, double stand, double hit, double dbl) {
+        switch (decision) {
+            case HIT:
+                return hit;
+            case DOUBLE:
+                return dbl;
+            default:
+                return stand;
+        }
+    }
+
+    /**
+     * Card value with an Ace counted as 1.
+     */
+    private static int hard(int value) {
+        return value == 11 ? 1 : value;
+    }
+
+    /**
+     * Best total for a hard total and the presence of an Ace.
+     */
+    private static int total(int hard, boolean ace) {
+        return ace && hard + 10 <= Game.BLACKJACK ? hard + 10 : hard;
+    }
+}
@@ -7,6 +7,11 @@ import static ru.nsu.kiryushin.Constants.SUITS;
  * Single playing card with rank and suit indices.
  */
 public class Card {
+    /**
+     * Rank index of the Ace.
+     */
+    public static final int ACE_RANK = 9;
+
     private final int rank;
     private final int suit;
 
@@ -21,6 +26,33 @@ public class Card {
         this.suit = suit;
     }
 
+    /**
+     * Returns the rank index.
+     *
+     * @return rank index (0..12)
+     */
+    public int getRank() {
+        return this.rank;
+    }
+
+    /**
+     * Returns the suit index.
+     *
+     * @return suit index (0..3)
+     */
+    public int getSuit() {
+        return this.suit;
+    }
+
+    /**
+     * Checks whether the card is an Ace.
+     *
+     * @return {@code true} for an Ace
+     */
+    public boolean isAce() {
+        return this.rank == ACE_RANK;
+    }
+
     /**
      * Returns the rank name.
      *
@@ -45,7 +77,7 @@ public class Card {
      * @return numeric value (2..11)
      */
     public int getValue() {
-        if (rank == 9) {
+        if (rank == ACE_RANK) {
             return 11;
         }
         if (rank >= 10) {
@@ -0,0 +1,99 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Byte encoding of cards used by the compact simulation mode.
+ *
+ * <p>A card is stored as {@code suit * 13 + rank}, so all 52 cards fit in
+ * 0..51 and rank, suit and Blackjack value are recovered with table lookups.
+ */
+public final class CardCodes {
+    /**
+     * Number of distinct card codes.
+     */
+    public static final int CARDS = 52;
+
+    private static final byte[] RANK = new byte[CARDS];
+    private static final byte[] VALUE = new byte[CARDS];
+
+    static {
+        for (int code = 0; code < CARDS; code++) {
+            int rank = code % 13;
+            RANK[code] = (byte) rank;
+            VALUE[code] = (byte) new Card(rank, code / 13).getValue();
+        }
+    }
+
+    private CardCodes() {
+    }
+
+    /**
+     * Encodes a card given by rank and suit indices.
+     *
+     * @param rank rank index (0..12)
+     * @param suit suit index (0..3)
+     * @return card code (0..51)
+     */
+    public static byte encode(int rank, int suit) {
+        return (byte) (suit * 13 + rank);
+    }
+
+    /**
+     * Encodes a card object.
+     *
+     * @param card card to encode
+     * @return card code (0..51)
+     */
+    public static byte encode(Card card) {
+        return encode(card.getRank(), card.getSuit());
+    }
+
+    /**
+     * Returns the rank index of a card code.
+     *
+     * @param code card code
+     * @return rank index (0..12)
+     */
+    public static int rank(int code) {
+        return RANK[code];
+    }
+
+    /**
+     * Returns the suit index of a card code.
+     *
+     * @param code card code
+     * @return suit index (0..3)
+     */
+    public static int suit(int code) {
+        return code / 13;
+    }
+
+    /**
+     * Returns the Blackjack value of a card code, counting an Ace as 11.
+     *
+     * @param code card code
+     * @return numeric value (2..11)
+     */
+    public static int value(int code) {
+        return VALUE[code];
+    }
+
+    /**
+     * Checks whether a card code is an Ace.
+     *
+     * @param code card code
+     * @return {@code true} for an Ace
+     */
+    public static boolean isAce(int code) {
+        return RANK[code] == Card.ACE_RANK;
+    }
+
+    /**
+     * Converts a card code back to a card object.
+     *
+     * @param code card code
+     * @return new card with the same rank and suit
+     */
+    public static Card toCard(int code) {
+        return new Card(rank(code), suit(code));
+    }
+}
@@ -0,0 +1,92 @@
+package ru.nsu.kiryushin;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Blackjack hand of card codes with an incrementally maintained total.
+ *
+ * <p>Adding a card updates the hard total and the Ace count, so the hand value
+ * is available in constant time without allocation or string comparison. One
+ * instance is meant to be {@link #clear() cleared} and reused between rounds.
+ */
+public class CompactHand {
+    private byte[] cards = new byte[12];
+    private int count;
+    private int hardTotal;
+    private int aces;
+
+    /**
+     * Removes all cards from the hand.
+     */
+    public void clear() {
+        count = 0;
+        hardTotal = 0;
+        aces = 0;
+    }
+
+    /**
+     * Adds a card to the hand.
+     *
+     * @param code card code (0..51)
+     */
+    public void add(int code) {
+        if (count == cards.length) {
+            cards = Arrays.copyOf(cards, count * 2);
+        }
+        cards[count++] = (byte) code;
+        if (CardCodes.isAce(code)) {
+            aces++;
+            hardTotal += 1;
+        } else {
+            hardTotal += CardCodes.value(code);
+        }
+    }
+
+    /**
+     * Computes the Blackjack total, counting one Ace as 11 when it does not bust.
+     *
+     * @return the hand total
+     */
+    public int getSum() {
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
+
+    /**
+     * Checks whether an Ace is currently counted as 11.
+     *
+     * @return {@code true} for a soft hand
+     */
+    public boolean isSoft() {
+        return aces > 0 && hardTotal + 10 <= Game.BLACKJACK;
+    }
+
+    /**
+     * Checks whether the hand total exceeds 21.
+     *
+     * @return {@code true} if the hand is bust
+     */
+    public boolean isBust() {
+        return hardTotal > Game.BLACKJACK;
+    }
+
+    /**
+     * Returns the number of cards in the hand.
+     *
+     * @return cards count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns a card code by position.
+     *
+     * @param index position in the hand
+     * @return card code
+     * @throws IndexOutOfBoundsException if {@code index} is outside the hand
+     */
+    public int get(int index) {
+        return cards[Objects.checkIndex(index, count)];
+    }
+}
@@ -0,0 +1,96 @@
+package ru.nsu.kiryushin;
+
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Shoe of card codes stored in a single {@code byte[]}.
+ *
+ * <p>The shoe is filled once; {@link #reshuffle()} restores every card and
+ * shuffles the same array in place, so playing through many shoes allocates
+ * nothing. {@link Deck} deals from a shoe of its own, so a shoe and a deck
+ * built with equally seeded generators deal the same sequence.
+ */
+public class CompactShoe {
+    private final byte[] cards;
+    private final RandomGenerator random;
+    private final int cutCard;
+    private int size;
+
+    /**
+     * Creates and shuffles a shoe.
+     *
+     * @param numDecks number of 52-card packs
+     * @param random random source used for shuffling
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     */
+    public CompactShoe(int numDecks, RandomGenerator random) {
+        if (numDecks < 1 || numDecks > 8) {
+            throw new IllegalArgumentException(
+                    "Количество колод должно быть от 1 до 8 включительно!");
+        }
+        this.cards = new byte[numDecks * CardCodes.CARDS];
+        this.random = random;
+        this.cutCard = Deck.defaultCutCard(numDecks);
+        reshuffle();
+    }
+
+    /**
+     * Puts all cards back and shuffles them in place (Fisher–Yates).
+     */
+    public void reshuffle() {
+        int i = 0;
+        while (i < cards.length) {
+            for (int code = 0; code < CardCodes.CARDS; code++) {
+                cards[i++] = (byte) code;
+            }
+        }
+        for (int k = cards.length; k > 1; k--) {
+            int j = random.nextInt(k);
+            byte tmp = cards[k - 1];
+            cards[k - 1] = cards[j];
+            cards[j] = tmp;
+        }
+        size = cards.length;
+    }
+
+    /**
+     * Draws a card code from the top of the shoe.
+     *
+     * @return card code (0..51)
+     * @throws NoSuchElementException if the shoe is empty
+     */
+    public int draw() {
+        if (size == 0) {
+            throw new NoSuchElementException("Колода пустая");
+        }
+        return cards[--size];
+    }
+
+    /**
+     * Returns the number of remaining cards.
+     *
+     * @return remaining cards count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the cut card has been reached, using the same cut as {@link Deck}.
+     *
+     * @return {@code true} if the shoe should be reshuffled before the next round
+     */
+    public boolean needsReshuffle() {
+        return size <= cutCard;
+    }
+
+    /**
+     * Returns the number of cards in a full shoe.
+     *
+     * @return total cards count
+     */
+    public int capacity() {
+        return cards.length;
+    }
+}
@@ -0,0 +1,56 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Card-counting system: a tag for every rank added to the running count as
+ * cards leave the shoe.
+ */
+@FunctionalInterface
+public interface CountingSystem {
+
+    /**
+     * Hi-Lo: 2–6 count +1, 7–9 count 0, tens and Aces count -1.
+     */
+    CountingSystem HI_LO = rank -> {
+        if (rank <= 4) {
+            return 1;
+        }
+        return rank <= 7 ? 0 : -1;
+    };
+
+    /**
+     * Knock-Out: 2–7 count +1, 8–9 count 0, tens and Aces count -1; the count
+     * starts at {@code 4 - 4 * decks} so that it ends at +4 for a full shoe.
+     */
+    CountingSystem KNOCK_OUT = new CountingSystem() {
+        @Override
+        public int tag(int rank) {
+            if (rank <= 5) {
+                return 1;
+            }
+            return rank <= 7 ? 0 : -1;
+        }
+
+        @Override
+        public int initialCount(int numDecks) {
+            return 4 - 4 * numDecks;
+        }
+    };
+
+    /**
+     * Returns the tag of a rank.
+     *
+     * @param rank rank index (0..12)
+     * @return value added to the running count when such a card is dealt
+     */
+    int tag(int rank);
+
+    /**
+     * Returns the running count of a freshly shuffled shoe.
+     *
+     * @param numDecks number of 52-card packs in the shoe
+     * @return initial running count
+     */
+    default int initialCount(int numDecks) {
+        return 0;
+    }
+}
@@ -57,7 +57,7 @@ public class Dealer extends Hand {
         int softAces = this.getSoftAces();
         for (Card card : this.getHand()) {
             handDealer.add(openCardString(card, softAces > 0));
-            if ("Туз".equals(card.getRankName()) && softAces > 0) {
+            if (card.isAce() && softAces > 0) {
                 softAces--;
             }
         }
@@ -72,7 +72,7 @@ public class Dealer extends Hand {
      * @return formatted representation of the card
      */
     private String openCardString(Card card, boolean softAce) {
-        if ("Туз".equals(card.getRankName())) {
+        if (card.isAce()) {
             String aceValue = softAce ? "11" : "1";
             return card.getRankName() + " " + card.getSuitName() + " (" + aceValue + ")";
         }
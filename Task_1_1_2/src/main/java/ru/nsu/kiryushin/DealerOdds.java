@@ -0,0 +1,220 @@
+package ru.nsu.kiryushin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Exact distribution of the dealer's final total for a given shoe.
+ *
+ * <p>The dealer's hole card and every later card are drawn without replacement
+ * from the remaining composition, and the dealer plays by the rules of
+ * {@link Game}: a natural ends the round, otherwise the dealer draws below 17.
+ * Compositions are packed into a {@code long} (six bits per value, eight bits
+ * for the ten-valued cards). During one query the dealer's hand is fully
+ * determined by the cards already taken, so the recursion is memoized on the
+ * current composition alone; finished queries are kept in a bounded LRU cache
+ * per up-card, so repeating a query during a shoe costs a single map lookup.
+ *
+ * <p>Instances are not thread-safe; use one calculator per thread or table.
+ */
+public class DealerOdds {
+    /**
+     * Index of the probability of a dealer natural in the returned distribution.
+     */
+    public static final int NATURAL = 5;
+
+    /**
+     * Index of the probability of a dealer bust in the returned distribution.
+     */
+    public static final int BUST = 6;
+
+    private static final int OUTCOMES = 7;
+    private static final int DEFAULT_CACHE_SIZE = 1 << 16;
+
+    private final List<Map<Long, double[]>> cache = new ArrayList<>(12);
+
+    /**
+     * Creates a calculator with the default cache size.
+     */
+    public DealerOdds() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a calculator.
+     *
+     * @param cacheSize maximum number of cached queries per up-card
+     * @throws IllegalArgumentException if {@code cacheSize} is negative
+     */
+    public DealerOdds(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize < 0: " + cacheSize);
+        }
+        for (int up = 0; up <= 11; up++) {
+            cache.add(new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, double[]> eldest) {
+                    return size() > cacheSize;
+                }
+            });
+        }
+    }
+
+    /**
+     * Computes the dealer's final-total distribution for the cards left in a deck.
+     *
+     * @param deck deck whose remaining cards are drawn by the dealer; the up-card
+     *             must already have been dealt from it
+     * @param dealerUp value of the dealer's open card (2..11)
+     * @return probabilities of 17..21 at indices 0..4, of a natural at
+     *         {@link #NATURAL} and of a bust at {@link #BUST}
+     */
+    public double[] finalTotals(Deck deck, int dealerUp) {
+        return finalTotals(deck.getComposition(), dealerUp);
+    }
+
+    /**
+     * Computes the dealer's final-total distribution for a shoe composition.
+     *
+     * @param counts remaining cards of every Blackjack value, indexed 2..11,
+     *               without the dealer's up-card
+     * @param dealerUp value of the dealer's open card (2..11)
+     * @return probabilities of 17..21 at indices 0..4, of a natural at
+     *         {@link #NATURAL} and of a bust at {@link #BUST}
+     * @throws IllegalArgumentException if a count does not fit the key
+     *                                  or {@code dealerUp} is outside 2..11
+     * @throws NoSuchElementException if the shoe can run out before the dealer finishes
+     */
+    public double[] finalTotals(int[] counts, int dealerUp) {
+        if (dealerUp < 2 || dealerUp > 11) {
+            throw new IllegalArgumentException("dealerUp вне 2..11: " + dealerUp);
+        }
+        long key = pack(counts);
+        Map<Long, double[]> queries = cache.get(dealerUp);
+        double[] dist = queries.get(key);
+        if (dist == null) {
+            dist = compute(key, dealerUp);
+            queries.put(key, dist);
+        }
+        return dist.clone();
+    }
+
+    /**
+     * Returns the number of cached queries.
+     *
+     * @return cached query count over all up-cards
+     */
+    public int cacheSize() {
+        int size = 0;
+        for (int up = 2; up <= 11; up++) {
+            size += cache.get(up).size();
+        }
+        return size;
+    }
+
+    private static double[] compute(long key, int up) {
+        Map<Long, double[]> memo = new HashMap<>();
+        double[] dist = new double[OUTCOMES];
+        int total = cards(key);
+        for (int hole = 2; hole <= 11; hole++) {
+            int n = count(key, hole);
+            if (n == 0) {
+                continue;
+            }
+            double p = (double) n / total;
+            if (up + hole == Game.BLACKJACK) {
+                dist[NATURAL] += p;
+                continue;
+            }
+            boolean ace = up == 11 || hole == 11;
+            double[] next = draw(key - unit(hole), hard(up) + hard(hole), ace, memo);
+            for (int k = 0; k < OUTCOMES; k++) {
+                dist[k] += p * next[k];
+            }
+        }
+        return dist;
+    }
+
+    private static double[] draw(long key, int hard, boolean ace, Map<Long, double[]> memo) {
+        double[] dist = memo.get(key);
+        if (dist != null) {
+            return dist;
+        }
+        dist = new double[OUTCOMES];
+        int total = ace && hard + 10 <= Game.BLACKJACK ? hard + 10 : hard;
+        if (hard > Game.BLACKJACK) {
+            dist[BUST] = 1;
+        } else if (!Game.dealerMustHit(total)) {
+            dist[total - Game.DEALER_STANDS_ON] = 1;
+        } else {
+            int remaining = cards(key);
+            if (remaining == 0) {
+                throw new NoSuchElementException("Колода пустая");
+            }
+            for (int v = 2; v <= 11; v++) {
+                int n = count(key, v);
+                if (n == 0) {
+                    continue;
+                }
+                double p = (double) n / remaining;
+                double[] next = draw(key - unit(v), hard + hard(v), ace || v == 11, memo);
+                for (int k = 0; k < OUTCOMES; k++) {
+                    dist[k] += p * next[k];
+                }
+            }
+        }
+        memo.put(key, dist);
+        return dist;
+    }
+
+    /**
+     * Packs a composition: values 2..9 and the Ace take six bits each, the
+     * ten-valued cards take the top eight bits.
+     */
+    static long pack(int[] counts) {
+        long key = 0;
+        for (int v = 2; v <= 11; v++) {
+            int limit = v == 10 ? 255 : 63;
+            if (counts[v] < 0 || counts[v] > limit) {
+                throw new IllegalArgumentException(
+                        "Количество карт достоинства " + v + " вне 0.." + limit + ": " + counts[v]);
+            }
+            key += counts[v] * unit(v);
+        }
+        return key;
+    }
+
+    private static long unit(int value) {
+        return 1L << shift(value);
+    }
+
+    private static int shift(int value) {
+        if (value == 10) {
+            return 54;
+        }
+        return 6 * (value == 11 ? 8 : value - 2);
+    }
+
+    private static int count(long key, int value) {
+        int mask = value == 10 ? 0xFF : 0x3F;
+        return (int) (key >>> shift(value)) & mask;
+    }
+
+    private static int cards(long key) {
+        int total = 0;
+        for (int v = 2; v <= 11; v++) {
+            total += count(key, v);
+        }
+        return total;
+    }
+
+    private static int hard(int value) {
+        return value == 11 ? 1 : value;
+    }
+}
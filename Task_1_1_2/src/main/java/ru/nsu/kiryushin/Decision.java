@@ -0,0 +1,26 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Player action chosen by an automated strategy.
+ */
+public enum Decision {
+    /**
+     * Take another card.
+     */
+    HIT,
+
+    /**
+     * Keep the current total.
+     */
+    STAND,
+
+    /**
+     * Double the bet, take exactly one card and stand.
+     */
+    DOUBLE,
+
+    /**
+     * Split a pair into two hands.
+     */
+    SPLIT
+}
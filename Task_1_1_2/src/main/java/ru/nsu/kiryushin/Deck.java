@@ -1,18 +1,50 @@
 package ru.nsu.kiryushin;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Deck of playing cards composed of one to eight standard 52-card packs.
+ *
+ * <p>Cards are kept and shuffled by a {@link CompactShoe} and dealt as shared
+ * immutable {@link Card} instances. {@link #reshuffle()} puts every card back
+ * and shuffles the same array in place, so one deck serves a whole game
+ * without allocating.
+ *
+ * <p>The deck also keeps the number of remaining cards of every rank and the
+ * running counts of registered {@link CountingSystem}s. Both are updated in
+ * constant time on every {@link #getCard()} and read through {@link #getStats()}.
  */
 public class Deck {
-    private final List<Card> cards;
+    /**
+     * Fewest cards left behind the cut card, enough to finish a round.
+     */
+    static final int MIN_CUT_CARDS = 21;
+
+    private static final Card[] CARDS = new Card[CardCodes.CARDS];
+
+    static {
+        for (int code = 0; code < CardCodes.CARDS; code++) {
+            CARDS[code] = CardCodes.toCard(code);
+        }
+    }
+
+    private final int numDecks;
+    private final CompactShoe shoe;
+    private final int[] remainingByRank = new int[13];
+    private final ShoeStats stats = new Stats();
+    private int[][] tags = new int[0][];
+    private int[] initialCounts = new int[0];
+    private int[] running = new int[0];
+    private int cutCard;
 
-    private Deck(int numDecks) {
-        cards = new ArrayList<>(numDecks * 52);
+    private Deck(int numDecks, RandomGenerator random) {
+        this.numDecks = numDecks;
+        this.shoe = new CompactShoe(numDecks, random);
+        this.cutCard = defaultCutCard(numDecks);
+        resetCounts();
     }
 
     /**
@@ -22,32 +54,57 @@ public class Deck {
      * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
      */
     public static Deck create(int numDecks) {
+        return create(numDecks, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a deck shuffled with the given random source.
+     *
+     * <p>The deck keeps the generator for later reshuffles. Any
+     * {@link RandomGenerator} fits, e.g. {@link SplittableRandom} or
+     * {@code RandomGenerator.of("Xoshiro256PlusPlus")}; simulation workers pass
+     * their own generator so that shuffling does not contend on a shared one
+     * and a seeded run is reproducible.
+     *
+     * @param numDecks number of 52-card packs
+     * @param random random source used for shuffling
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     */
+    public static Deck create(int numDecks, RandomGenerator random) {
         if (numDecks < 1 || numDecks > 8) {
             throw new IllegalArgumentException(
                     "Количество колод должно быть от 1 до 8 включительно!");
         }
-        Deck deck = new Deck(numDecks);
-        for (int i = 0; i < numDecks; i++) {
-            for (int suit = 0; suit < 4; suit++) {
-                for (int rank = 0; rank < 13; rank++) {
-                    deck.cards.add(new Card(rank, suit));
-                }
-            }
-        }
-        Collections.shuffle(deck.cards);
-        return deck;
+        return new Deck(numDecks, random);
+    }
+
+    /**
+     * Puts all cards back and shuffles them in place (Fisher–Yates).
+     */
+    public void reshuffle() {
+        shoe.reshuffle();
+        resetCounts();
+    }
+
+    private void resetCounts() {
+        Arrays.fill(remainingByRank, 4 * numDecks);
+        System.arraycopy(initialCounts, 0, running, 0, running.length);
     }
 
     /**
      * Gets one card from the top of the deck.
      *
      * @return card from the top of the deck
+     * @throws NoSuchElementException if the deck is empty
      */
     public Card getCard() {
-        if (cards.isEmpty()) {
-            throw new NoSuchElementException("Колода пустая");
+        int code = shoe.draw();
+        int rank = CardCodes.rank(code);
+        remainingByRank[rank]--;
+        for (int i = 0; i < running.length; i++) {
+            running[i] += tags[i][rank];
         }
-        return cards.remove(cards.size() - 1);
+        return CARDS[code];
     }
 
     /**
@@ -56,6 +113,134 @@ public class Deck {
      * @return remaining cards count
      */
     public int size() {
-        return cards.size();
+        return shoe.size();
+    }
+
+    /**
+     * Counts the remaining cards by Blackjack value.
+     *
+     * @return new array of counts indexed by value 2..11 (an Ace counts as 11)
+     */
+    public int[] getComposition() {
+        int[] counts = new int[12];
+        for (int rank = 0; rank < remainingByRank.length; rank++) {
+            counts[CardCodes.value(CardCodes.encode(rank, 0))] += remainingByRank[rank];
+        }
+        return counts;
+    }
+
+    /**
+     * Registers a counting system and brings its running count up to date with
+     * the cards already dealt from the current shoe.
+     *
+     * @param system counting system to track
+     * @return handle for {@link ShoeStats#getRunningCount(int)}
+     *         and {@link ShoeStats#getTrueCount(int)}
+     */
+    public int addCountingSystem(CountingSystem system) {
+        int[] table = new int[13];
+        int count = system.initialCount(numDecks);
+        for (int rank = 0; rank < table.length; rank++) {
+            table[rank] = system.tag(rank);
+            count += table[rank] * (4 * numDecks - remainingByRank[rank]);
+        }
+        int handle = running.length;
+        tags = Arrays.copyOf(tags, handle + 1);
+        tags[handle] = table;
+        initialCounts = Arrays.copyOf(initialCounts, handle + 1);
+        initialCounts[handle] = system.initialCount(numDecks);
+        running = Arrays.copyOf(running, handle + 1);
+        running[handle] = count;
+        return handle;
+    }
+
+    /**
+     * Returns the live read-only statistics of the shoe.
+     *
+     * @return the same view on every call
+     */
+    public ShoeStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Checks whether the cut card has been reached.
+     *
+     * @return {@code true} if the deck should be reshuffled before the next round
+     */
+    public boolean needsReshuffle() {
+        return shoe.size() <= cutCard;
+    }
+
+    /**
+     * Places the cut card by penetration, the share of the shoe dealt before a reshuffle.
+     *
+     * <p>Reshuffles happen only between rounds, so at least {@link #MIN_CUT_CARDS}
+     * cards always stay behind the cut card; a deeper penetration is capped there.
+     *
+     * @param penetration dealt share of the shoe, in (0, 1]
+     * @throws IllegalArgumentException if {@code penetration} is outside (0, 1]
+     */
+    public void setPenetration(double penetration) {
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException(
+                    "Проникновение должно быть в (0, 1]: " + penetration);
+        }
+        int dealt = (int) Math.round(shoe.capacity() * penetration);
+        cutCard = Math.max(MIN_CUT_CARDS, shoe.capacity() - dealt);
+    }
+
+    /**
+     * Returns the number of 52-card packs in the deck.
+     *
+     * @return pack count
+     */
+    public int getNumDecks() {
+        return numDecks;
+    }
+
+    /**
+     * Remaining cards at which the game reshuffles: fewer than 22 for a single
+     * pack, otherwise a quarter of the shoe.
+     *
+     * @param numDecks number of 52-card packs
+     * @return largest remaining count that triggers a reshuffle
+     */
+    static int defaultCutCard(int numDecks) {
+        if (numDecks == 1) {
+            return MIN_CUT_CARDS;
+        }
+        return (int) Math.round(numDecks * CardCodes.CARDS * 0.25);
+    }
+
+    /**
+     * View over the counters of the enclosing deck.
+     */
+    private final class Stats implements ShoeStats {
+        @Override
+        public int getCardsRemaining() {
+            return shoe.size();
+        }
+
+        @Override
+        public int getRemaining(int rank) {
+            return remainingByRank[rank];
+        }
+
+        @Override
+        public double getDecksRemaining() {
+            return (double) shoe.size() / CardCodes.CARDS;
+        }
+
+        @Override
+        public int getRunningCount(int system) {
+            return running[system];
+        }
+
+        @Override
+        public double getTrueCount(int system) {
+            int size = shoe.size();
+            return size == 0 ? 0 : running[system] * (double) CardCodes.CARDS / size;
+        }
     }
 }
@@ -0,0 +1,143 @@
+package ru.nsu.kiryushin;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader of a log written by {@link EventLogWriter}.
+ *
+ * <p>The reader is a cursor: {@link #next()} moves to the following record and
+ * the accessors return its fields, so replaying a log allocates nothing per
+ * record. Data is read from the channel in large blocks.
+ */
+public class EventLogReader implements AutoCloseable {
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final EventType[] TYPES = EventType.values();
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long records;
+    private long round;
+    private EventType type;
+    private int actor;
+    private int card;
+    private int value;
+
+    /**
+     * Opens a log file and checks its header.
+     *
+     * @param file path of the log file
+     * @throws IOException if the file cannot be read or is not an event log
+     */
+    public EventLogReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.limit(0);
+        if (!fill(EventLogWriter.HEADER_BYTES)
+                || buffer.getInt() != EventLogWriter.MAGIC
+                || buffer.getInt() != EventLogWriter.VERSION) {
+            channel.close();
+            throw new IOException("Файл не является журналом событий: " + file);
+        }
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return {@code false} if the log has no more records
+     * @throws IOException if reading fails, the log ends inside a record or
+     *                     the record has an unknown event type
+     */
+    public boolean next() throws IOException {
+        if (!fill(EventLogWriter.RECORD_BYTES)) {
+            if (buffer.hasRemaining()) {
+                throw new IOException("Журнал событий обрывается посреди записи");
+            }
+            return false;
+        }
+        long offset = EventLogWriter.HEADER_BYTES + records * EventLogWriter.RECORD_BYTES;
+        round = buffer.getLong();
+        int ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= TYPES.length) {
+            throw new IOException(
+                    "Неизвестный тип события " + ordinal + " в записи по смещению " + offset);
+        }
+        type = TYPES[ordinal];
+        records++;
+        actor = buffer.get();
+        card = buffer.get();
+        value = buffer.get();
+        return true;
+    }
+
+    /**
+     * Returns the round number of the current record.
+     *
+     * @return round number
+     */
+    public long round() {
+        return round;
+    }
+
+    /**
+     * Returns the kind of the current record.
+     *
+     * @return event kind
+     */
+    public EventType type() {
+        return type;
+    }
+
+    /**
+     * Returns the actor of the current record.
+     *
+     * @return {@link EventLogWriter#PLAYER} or {@link EventLogWriter#DEALER}
+     */
+    public int actor() {
+        return actor;
+    }
+
+    /**
+     * Returns the card code of the current record.
+     *
+     * @return card code (0..51) or {@link EventLogWriter#NO_CARD}
+     */
+    public int card() {
+        return card;
+    }
+
+    /**
+     * Returns the value of the current record.
+     *
+     * @return hand total or round result, depending on {@link #type()}
+     */
+    public int value() {
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Makes at least {@code bytes} bytes available in the buffer.
+     *
+     * @return {@code false} if the file ends first
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+}
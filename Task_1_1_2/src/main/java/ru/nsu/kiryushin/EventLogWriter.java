@@ -0,0 +1,129 @@
+package ru.nsu.kiryushin;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes Blackjack events as fixed-width binary records.
+ *
+ * <p>The file starts with an eight-byte header (magic and format version)
+ * followed by {@value #RECORD_BYTES}-byte records: the round number as a
+ * {@code long}, then one byte each for the {@link EventType}, the actor, the
+ * card code and the value. Records are collected in a direct buffer and
+ * handed to the {@link FileChannel} when it fills up, so logging a round costs
+ * a few buffer puts and no string formatting. A writer is not thread-safe; use
+ * one per thread or table.
+ */
+public class EventLogWriter implements AutoCloseable {
+    /**
+     * File signature, {@code "BJEV"} in ASCII.
+     */
+    public static final int MAGIC = 0x424A4556;
+
+    /**
+     * Version of the record format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Size of the file header in bytes.
+     */
+    public static final int HEADER_BYTES = 8;
+
+    /**
+     * Size of one record in bytes.
+     */
+    public static final int RECORD_BYTES = 12;
+
+    /**
+     * Actor code of the player.
+     */
+    public static final int PLAYER = 0;
+
+    /**
+     * Actor code of the dealer.
+     */
+    public static final int DEALER = 1;
+
+    /**
+     * Card code stored in records that carry no card.
+     */
+    public static final int NO_CARD = -1;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    /**
+     * Creates or truncates a log file and writes its header.
+     *
+     * @param file path of the log file
+     * @throws IOException if the file cannot be opened
+     */
+    public EventLogWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).putInt(VERSION);
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param round round number
+     * @param type event kind
+     * @param actor {@link #PLAYER} or {@link #DEALER}
+     * @param card card code (0..51) or {@link #NO_CARD}
+     * @param value hand total or round result, depending on {@code type}
+     * @throws UncheckedIOException if the buffered records cannot be written
+     */
+    public void write(long round, EventType type, int actor, int card, int value) {
+        if (buffer.remaining() < RECORD_BYTES) {
+            drain();
+        }
+        buffer.putLong(round)
+                .put((byte) type.ordinal())
+                .put((byte) actor)
+                .put((byte) card)
+                .put((byte) value);
+    }
+
+    /**
+     * Writes all buffered records to the file.
+     *
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the buffered records and closes the file.
+     *
+     * @throws IOException if writing or closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drain() {
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
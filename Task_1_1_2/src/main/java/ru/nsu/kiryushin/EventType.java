@@ -0,0 +1,31 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Kind of a record in a binary event log.
+ */
+public enum EventType {
+    /**
+     * A card dealt at the start of a round.
+     */
+    DEAL,
+
+    /**
+     * A card drawn after the deal.
+     */
+    HIT,
+
+    /**
+     * A hand stopped drawing; the value holds its total.
+     */
+    STAND,
+
+    /**
+     * A hand went over 21; the value holds its total.
+     */
+    BUST,
+
+    /**
+     * The round is settled; the value holds 1, 0 or -1 from the player's side.
+     */
+    OUTCOME
+}
@@ -6,6 +6,16 @@ import java.util.Scanner;
  * Console Blackjack game.
  */
 public class Game {
+    /**
+     * Best possible hand total.
+     */
+    static final int BLACKJACK = 21;
+
+    /**
+     * Dealer draws until the hand total reaches this value.
+     */
+    static final int DEALER_STANDS_ON = 17;
+
     private int winsPlayer = 0;
     private int winsDealer = 0;
 
@@ -18,12 +28,11 @@ public class Game {
         Scanner sc = new Scanner(System.in);
 
         int numDeck = readNumDecks(sc);
-        int totalCards = 52 * numDeck;
         int round = 1;
 
         Deck deck = Deck.create(numDeck);
         while (true) {
-            deck = ensureDeckHasCards(numDeck, totalCards, deck);
+            ensureDeckHasCards(deck);
 
             if (!waitEnterOrQuit(
                     sc,
@@ -61,23 +70,36 @@ public class Game {
     /**
      * Ensures that the current deck still has enough cards for the next round.
      *
-     * @param numDeck number of decks chosen for the game
-     * @param totalCards total cards available at the beginning of the game
-     * @param deck current deck instance
-     * @return existing deck if it still has cards, otherwise a reshuffled deck
+     * @param deck current deck instance, reshuffled in place once the cut card is reached
      */
-    private Deck ensureDeckHasCards(int numDeck, int totalCards, Deck deck) {
-        if (numDeck == 1) {
-            if (deck.size() < 22) {
-                return Deck.create(numDeck);
-            }
-        } else {
-            int cutRemaining = (int) Math.round(totalCards * 0.25);
-            if (deck.size() <= cutRemaining) {
-                return Deck.create(numDeck);
-            }
+    static void ensureDeckHasCards(Deck deck) {
+        if (deck.needsReshuffle()) {
+            deck.reshuffle();
+        }
+    }
+
+    /**
+     * Dealer rule: draw while the total is below {@link #DEALER_STANDS_ON}.
+     *
+     * @param sumDealer current dealer total
+     * @return {@code true} if the dealer has to take another card
+     */
+    static boolean dealerMustHit(int sumDealer) {
+        return sumDealer < DEALER_STANDS_ON;
+    }
+
+    /**
+     * Settles a round in which both hands are final.
+     *
+     * @param sumPlayer player total, at most 21
+     * @param sumDealer dealer total
+     * @return 1 if player wins, 0 if push, -1 if dealer wins
+     */
+    static int settle(int sumPlayer, int sumDealer) {
+        if (sumDealer > BLACKJACK || sumPlayer > sumDealer) {
+            return 1;
         }
-        return deck;
+        return sumPlayer == sumDealer ? 0 : -1;
     }
 
     /**
@@ -135,17 +157,17 @@ public class Game {
         sumPlayer = player.getSumHand();
         sumDealer = dealer.getSumHand();
 
-        if (sumDealer == sumPlayer && sumDealer == 21) {
+        if (sumDealer == sumPlayer && sumDealer == BLACKJACK) {
             dealer.playerFinishedTurn();
             System.out.println(showHands(dealer, player));
             System.out.println("Сумма карт у вас и у дилера равна 21. Блэкджек.");
             return 0;
-        } else if (sumDealer == 21) {
+        } else if (sumDealer == BLACKJACK) {
             dealer.playerFinishedTurn();
             System.out.println(showHands(dealer, player));
             System.out.println("Сумма карт дилера равна 21. Блэкджек.");
             return -1;
-        } else if (sumPlayer == 21) {
+        } else if (sumPlayer == BLACKJACK) {
             dealer.playerFinishedTurn();
             System.out.println(showHands(dealer, player));
             System.out.println("Сумма ваших карт равна 21. Блэкджек.");
@@ -168,10 +190,10 @@ public class Game {
             player.addCard(card);
             System.out.println(showHands(dealer, player));
             sumPlayer = player.getSumHand();
-            if (sumPlayer > 21) {
+            if (sumPlayer > BLACKJACK) {
                 System.out.println("Сумма карт больше 21.");
                 return -1;
-            } else if (sumPlayer == 21) {
+            } else if (sumPlayer == BLACKJACK) {
                 System.out.println("Сумма карт равна 21. Ход переходит дилеру.\n");
                 break;
             }
@@ -183,7 +205,7 @@ public class Game {
                 "Дилер открывает закрытую карту " + dealer.getClosedCard().getCardName() + "\n");
         System.out.println(showHands(dealer, player));
         sumDealer = dealer.getSumHand();
-        while (sumDealer < 17) {
+        while (dealerMustHit(sumDealer)) {
             waitEnter(sc, "Нажмите Enter, чтобы дилер взял следующую карту...");
             Card card = deck.getCard();
             System.out.println("Дилер открывает карту " + card.getCardName());
@@ -191,7 +213,7 @@ public class Game {
             System.out.println(showHands(dealer, player));
             sumDealer = dealer.getSumHand();
         }
-        if (sumDealer > 21) {
+        if (sumDealer > BLACKJACK) {
             System.out.println("У дилера перебор.");
             return 1;
         } else if (sumDealer == sumPlayer) {
@@ -1,14 +1,21 @@
 package ru.nsu.kiryushin;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Blackjack hand stores cards and computes the hand total.
+ *
+ * <p>The hard total (every Ace counted as 1) and the number of Aces are kept
+ * up to date as cards are added, so the score, soft status and bust check are
+ * answered in constant time.
  */
 public class Hand {
     private final List<Card> hand;
-    private int softAces;
+    private final List<Card> view;
+    private int hardTotal;
+    private int aces;
 
     /**
      * Creates a hand with two initial cards.
@@ -18,8 +25,9 @@ public class Hand {
      */
     public Hand(Card card1, Card card2) {
         this.hand = new ArrayList<>();
-        this.hand.add(card1);
-        this.hand.add(card2);
+        this.view = Collections.unmodifiableList(this.hand);
+        addCard(card1);
+        addCard(card2);
     }
 
     /**
@@ -28,29 +36,37 @@ public class Hand {
      * @return the final hand total
      */
     public int getSumHand() {
-        int sum = 0;
-        int aces = 0;
-        for (Card c : this.hand) {
-            sum += c.getValue();
-            if ("Туз".equals(c.getRankName())) {
-                aces++;
-            }
-        }
-        while (sum > 21 && aces > 0) {
-            sum -= 10;
-            aces--;
-        }
-        this.softAces = aces;
-        return sum;
+        return isSoft() ? hardTotal + 10 : hardTotal;
     }
 
     /**
      * Returns the number of soft Aces.
      *
+     * <p>At most one Ace can be counted as 11 without busting, so the result
+     * is 0 or 1.
+     *
      * @return soft Ace count
      */
     public int getSoftAces() {
-        return this.softAces;
+        return isSoft() ? 1 : 0;
+    }
+
+    /**
+     * Checks whether an Ace is currently counted as 11.
+     *
+     * @return {@code true} for a soft hand
+     */
+    public boolean isSoft() {
+        return aces > 0 && hardTotal + 10 <= Game.BLACKJACK;
+    }
+
+    /**
+     * Checks whether the hand total exceeds 21.
+     *
+     * @return {@code true} if the hand is bust
+     */
+    public boolean isBust() {
+        return hardTotal > Game.BLACKJACK;
     }
 
     /**
@@ -60,14 +76,20 @@ public class Hand {
      */
     public void addCard(Card card) {
         this.hand.add(card);
+        if (card.isAce()) {
+            aces++;
+            hardTotal += 1;
+        } else {
+            hardTotal += card.getValue();
+        }
     }
 
     /**
-     * Returns the internal list of cards.
+     * Returns the cards of the hand.
      *
-     * @return list of cards
+     * @return read-only list of cards; use {@link #addCard(Card)} to add cards
      */
     public List<Card> getHand() {
-        return hand;
+        return view;
     }
 }
@@ -29,7 +29,7 @@ public class Player extends Hand {
         int softAces = this.getSoftAces();
         for (Card card : this.getHand()) {
             handPlayer.add(cardString(card, softAces > 0));
-            if ("Туз".equals(card.getRankName()) && softAces > 0) {
+            if (card.isAce() && softAces > 0) {
                 softAces--;
             }
         }
@@ -44,7 +44,7 @@ public class Player extends Hand {
      * @return formatted representation of the card
      */
     private String cardString(Card card, boolean softAce) {
-        if ("Туз".equals(card.getRankName())) {
+        if (card.isAce()) {
             String aceValue = softAce ? "11" : "1";
             return card.getRankName() + " " + card.getSuitName() + " (" + aceValue + ")";
         }
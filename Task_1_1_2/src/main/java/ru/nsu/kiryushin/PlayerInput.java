@@ -0,0 +1,31 @@
+package ru.nsu.kiryushin;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Source of player actions for a {@link TableSession}.
+ *
+ * <p>Unlike the console game, which blocks on {@code System.in}, an input only
+ * returns a stage that completes when the player has decided; it must not block
+ * the caller. The session waits for the stage on its own table thread.
+ */
+public interface PlayerInput {
+
+    /**
+     * Asks the player for the next action.
+     *
+     * @param total current player total (below 21)
+     * @param soft {@code true} if an Ace in the hand is still counted as 11
+     * @param dealerUp Blackjack value of the dealer's open card (2..11)
+     * @return stage completed with the player's decision
+     */
+    CompletionStage<Decision> nextAction(int total, boolean soft, int dealerUp);
+
+    /**
+     * Reports the outcome of a finished round.
+     *
+     * @param result 1 if player wins, 0 if push, -1 if dealer wins
+     */
+    default void roundFinished(int result) {
+    }
+}
@@ -0,0 +1,49 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Read-only view of the remaining cards and running counts of a {@link Deck}.
+ *
+ * <p>The view is live: the deck updates it as cards are dealt, and every
+ * method only reads fields, so it can be polled on each decision without
+ * allocation.
+ */
+public interface ShoeStats {
+
+    /**
+     * Returns the number of cards left in the shoe.
+     *
+     * @return remaining cards count
+     */
+    int getCardsRemaining();
+
+    /**
+     * Returns the number of remaining cards of a rank.
+     *
+     * @param rank rank index (0..12)
+     * @return remaining cards of that rank
+     */
+    int getRemaining(int rank);
+
+    /**
+     * Returns the remaining shoe size in packs.
+     *
+     * @return remaining cards divided by 52
+     */
+    double getDecksRemaining();
+
+    /**
+     * Returns the running count of a registered counting system.
+     *
+     * @param system handle returned by {@link Deck#addCountingSystem(CountingSystem)}
+     * @return running count
+     */
+    int getRunningCount(int system);
+
+    /**
+     * Returns the running count divided by the remaining packs.
+     *
+     * @param system handle returned by {@link Deck#addCountingSystem(CountingSystem)}
+     * @return true count, or 0 for an empty shoe
+     */
+    double getTrueCount(int system);
+}
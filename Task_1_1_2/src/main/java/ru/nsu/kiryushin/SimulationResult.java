@@ -0,0 +1,122 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Aggregated outcome of a {@link Simulator} run.
+ */
+public class SimulationResult {
+    private final long wins;
+    private final long pushes;
+    private final long losses;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a result.
+     *
+     * @param wins rounds won by the player
+     * @param pushes rounds that ended in a push
+     * @param losses rounds won by the dealer
+     * @param elapsedNanos wall-clock duration of the run in nanoseconds
+     */
+    public SimulationResult(long wins, long pushes, long losses, long elapsedNanos) {
+        this.wins = wins;
+        this.pushes = pushes;
+        this.losses = losses;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of simulated rounds.
+     *
+     * @return rounds played
+     */
+    public long getHands() {
+        return wins + pushes + losses;
+    }
+
+    /**
+     * Returns the number of rounds won by the player.
+     *
+     * @return player wins
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Returns the number of pushes.
+     *
+     * @return pushes
+     */
+    public long getPushes() {
+        return pushes;
+    }
+
+    /**
+     * Returns the number of rounds won by the dealer.
+     *
+     * @return player losses
+     */
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * Returns the wall-clock duration of the run.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the share of rounds won by the player.
+     *
+     * @return win rate in 0..1
+     */
+    public double getWinRate() {
+        return rate(wins);
+    }
+
+    /**
+     * Returns the share of pushes.
+     *
+     * @return push rate in 0..1
+     */
+    public double getPushRate() {
+        return rate(pushes);
+    }
+
+    /**
+     * Returns the share of rounds lost by the player.
+     *
+     * @return loss rate in 0..1
+     */
+    public double getLossRate() {
+        return rate(losses);
+    }
+
+    /**
+     * Returns the throughput of the run.
+     *
+     * @return simulated rounds per second
+     */
+    public double getHandsPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return getHands() * 1e9 / elapsedNanos;
+    }
+
+    private double rate(long count) {
+        long hands = getHands();
+        return hands == 0 ? 0.0 : (double) count / hands;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "hands=%d win=%.4f push=%.4f loss=%.4f hands/s=%.0f",
+                getHands(), getWinRate(), getPushRate(), getLossRate(), getHandsPerSecond());
+    }
+}
@@ -0,0 +1,332 @@
+package ru.nsu.kiryushin;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless Blackjack engine that plays many rounds without console I/O.
+ *
+ * <p>Rounds follow the same rules as {@link Game}: naturals are settled right
+ * after the deal, the player acts according to a {@link Strategy}, the dealer
+ * draws below 17 and the shoe is replaced at the same cut point. Work is split
+ * across a fixed thread pool; every worker owns its deck and random source, so
+ * nothing is shared while rounds are played.
+ *
+ * <p>In compact mode workers use a {@link CompactShoe} and reusable
+ * {@link CompactHand}s instead of {@link Deck} and {@link Card} objects, so the
+ * round loop does not allocate. Both modes deal the same cards for the same
+ * seed and therefore give the same results.
+ */
+public class Simulator {
+    private final int numDecks;
+    private final Strategy strategy;
+    private final long seed;
+    private final boolean compact;
+
+    /**
+     * Creates a simulator with a time-based seed.
+     *
+     * @param numDecks number of 52-card packs in the shoe
+     * @param strategy player strategy; it is called from several threads at once
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     */
+    public Simulator(int numDecks, Strategy strategy) {
+        this(numDecks, strategy, System.nanoTime());
+    }
+
+    /**
+     * Creates a simulator whose results are reproducible for a fixed thread count.
+     *
+     * @param numDecks number of 52-card packs in the shoe
+     * @param strategy player strategy; it is called from several threads at once
+     * @param seed seed from which per-thread random sources are derived
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     */
+    public Simulator(int numDecks, Strategy strategy, long seed) {
+        this(numDecks, strategy, seed, false);
+    }
+
+    /**
+     * Creates a simulator with an explicit card representation.
+     *
+     * @param numDecks number of 52-card packs in the shoe
+     * @param strategy player strategy; it is called from several threads at once
+     * @param seed seed from which per-thread random sources are derived
+     * @param compact {@code true} to play with byte-encoded cards
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     */
+    public Simulator(int numDecks, Strategy strategy, long seed, boolean compact) {
+        if (numDecks < 1 || numDecks > 8) {
+            throw new IllegalArgumentException(
+                    "Количество колод должно быть от 1 до 8 включительно!");
+        }
+        if (strategy == null) {
+            throw new NullPointerException("strategy");
+        }
+        this.numDecks = numDecks;
+        this.strategy = strategy;
+        this.seed = seed;
+        this.compact = compact;
+    }
+
+    /**
+     * Plays the given number of rounds on all available processors.
+     *
+     * @param hands number of rounds to play
+     * @return aggregated outcome
+     */
+    public SimulationResult run(long hands) {
+        return run(hands, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Plays the given number of rounds on a fixed number of threads.
+     *
+     * @param hands number of rounds to play
+     * @param threads number of worker threads
+     * @return aggregated outcome
+     * @throws IllegalArgumentException if {@code hands} is negative
+     *                                  or {@code threads} is not positive
+     */
+    public SimulationResult run(long hands, int threads) {
+        if (hands < 0) {
+            throw new IllegalArgumentException("hands < 0: " + hands);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads < 1: " + threads);
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> parts = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                long share = hands / threads + (i < hands % threads ? 1 : 0);
+                long workerSeed = seeds.nextLong();
+                parts.add(pool.submit(() -> compact
+                        ? playCompactRounds(share, new SplittableRandom(workerSeed))
+                        : playRounds(share, new SplittableRandom(workerSeed))));
+            }
+            long[] total = new long[3];
+            for (Future<long[]> part : parts) {
+                long[] counts = part.get();
+                for (int k = 0; k < total.length; k++) {
+                    total[k] += counts[k];
+                }
+            }
+            return new SimulationResult(total[0], total[1], total[2], System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Симуляция прервана", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка в потоке симуляции", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays rounds on the calling thread and records every event to a file.
+     *
+     * @param hands number of rounds to play
+     * @param file event log to create or overwrite
+     * @return aggregated outcome
+     * @throws IOException if the log cannot be written
+     * @throws IllegalArgumentException if {@code hands} is negative
+     */
+    public SimulationResult runLogged(long hands, Path file) throws IOException {
+        if (hands < 0) {
+            throw new IllegalArgumentException("hands < 0: " + hands);
+        }
+        long[] counts = new long[3];
+        long start = System.nanoTime();
+        Deck deck = Deck.create(numDecks, new SplittableRandom(seed));
+        try (EventLogWriter log = new EventLogWriter(file)) {
+            for (long h = 0; h < hands; h++) {
+                Game.ensureDeckHasCards(deck);
+                counts[1 - playRound(deck, strategy, log, h)]++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new SimulationResult(counts[0], counts[1], counts[2], System.nanoTime() - start);
+    }
+
+    /**
+     * Plays rounds on a private deck.
+     *
+     * @param hands number of rounds to play
+     * @param random random source owned by the calling thread
+     * @return counts of wins, pushes and losses
+     */
+    private long[] playRounds(long hands, RandomGenerator random) {
+        long[] counts = new long[3];
+        Deck deck = Deck.create(numDecks, random);
+        for (long h = 0; h < hands; h++) {
+            Game.ensureDeckHasCards(deck);
+            counts[1 - playRound(deck, strategy)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Plays rounds on a private compact shoe, reusing the same hands.
+     *
+     * @param hands number of rounds to play
+     * @param random random source owned by the calling thread
+     * @return counts of wins, pushes and losses
+     */
+    private long[] playCompactRounds(long hands, RandomGenerator random) {
+        long[] counts = new long[3];
+        CompactShoe shoe = new CompactShoe(numDecks, random);
+        CompactHand player = new CompactHand();
+        CompactHand dealer = new CompactHand();
+        for (long h = 0; h < hands; h++) {
+            if (shoe.needsReshuffle()) {
+                shoe.reshuffle();
+            }
+            counts[1 - playRound(shoe, player, dealer, strategy)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Plays a single round without any output.
+     *
+     * @param deck deck to draw cards from
+     * @param strategy player strategy
+     * @return 1 if player wins, 0 if push, -1 if dealer wins
+     */
+    static int playRound(Deck deck, Strategy strategy) {
+        return playRound(deck, strategy, null, 0);
+    }
+
+    /**
+     * Plays a single round and records its events.
+     *
+     * @param deck deck to draw cards from
+     * @param strategy player strategy
+     * @param log event log, or {@code null} to record nothing
+     * @param round round number stored in the records
+     * @return 1 if player wins, 0 if push, -1 if dealer wins
+     */
+    static int playRound(Deck deck, Strategy strategy, EventLogWriter log, long round) {
+        Card p1 = deck.getCard();
+        Card p2 = deck.getCard();
+        Card d1 = deck.getCard();
+        Card d2 = deck.getCard();
+        Player player = new Player(p1, p2);
+        Dealer dealer = new Dealer(d1, d2);
+        if (log != null) {
+            log.write(round, EventType.DEAL, EventLogWriter.PLAYER, CardCodes.encode(p1), 0);
+            log.write(round, EventType.DEAL, EventLogWriter.PLAYER, CardCodes.encode(p2), 0);
+            log.write(round, EventType.DEAL, EventLogWriter.DEALER, CardCodes.encode(d1), 0);
+            log.write(round, EventType.DEAL, EventLogWriter.DEALER, CardCodes.encode(d2), 0);
+        }
+
+        int sumPlayer = player.getSumHand();
+        int sumDealer = dealer.getSumHand();
+        if (sumDealer == Game.BLACKJACK) {
+            return outcome(log, round, sumPlayer == Game.BLACKJACK ? 0 : -1);
+        } else if (sumPlayer == Game.BLACKJACK) {
+            return outcome(log, round, 1);
+        }
+
+        int dealerUp = d1.getValue();
+        while (sumPlayer < Game.BLACKJACK
+                && strategy.shouldHit(sumPlayer, player.isSoft(), dealerUp)) {
+            Card card = deck.getCard();
+            player.addCard(card);
+            sumPlayer = player.getSumHand();
+            if (log != null) {
+                log.write(round, EventType.HIT, EventLogWriter.PLAYER,
+                        CardCodes.encode(card), sumPlayer);
+            }
+        }
+        if (player.isBust()) {
+            record(log, round, EventType.BUST, EventLogWriter.PLAYER, sumPlayer);
+            return outcome(log, round, -1);
+        }
+        record(log, round, EventType.STAND, EventLogWriter.PLAYER, sumPlayer);
+
+        while (Game.dealerMustHit(sumDealer)) {
+            Card card = deck.getCard();
+            dealer.addCard(card);
+            sumDealer = dealer.getSumHand();
+            if (log != null) {
+                log.write(round, EventType.HIT, EventLogWriter.DEALER,
+                        CardCodes.encode(card), sumDealer);
+            }
+        }
+        record(log, round, dealer.isBust() ? EventType.BUST : EventType.STAND,
+                EventLogWriter.DEALER, sumDealer);
+        return outcome(log, round, Game.settle(sumPlayer, sumDealer));
+    }
+
+    private static void record(EventLogWriter log, long round, EventType type,
+                               int actor, int total) {
+        if (log != null) {
+            log.write(round, type, actor, EventLogWriter.NO_CARD, total);
+        }
+    }
+
+    private static int outcome(EventLogWriter log, long round, int result) {
+        if (log != null) {
+            log.write(round, EventType.OUTCOME, EventLogWriter.PLAYER,
+                    EventLogWriter.NO_CARD, result);
+        }
+        return result;
+    }
+
+    /**
+     * Plays a single round with byte-encoded cards.
+     *
+     * @param shoe shoe to draw cards from
+     * @param player reusable player hand, cleared before dealing
+     * @param dealer reusable dealer hand, cleared before dealing
+     * @param strategy player strategy
+     * @return 1 if player wins, 0 if push, -1 if dealer wins
+     */
+    static int playRound(CompactShoe shoe, CompactHand player, CompactHand dealer,
+                         Strategy strategy) {
+        player.clear();
+        dealer.clear();
+        player.add(shoe.draw());
+        player.add(shoe.draw());
+        dealer.add(shoe.draw());
+        dealer.add(shoe.draw());
+
+        int sumPlayer = player.getSum();
+        int sumDealer = dealer.getSum();
+        if (sumDealer == Game.BLACKJACK) {
+            return sumPlayer == Game.BLACKJACK ? 0 : -1;
+        } else if (sumPlayer == Game.BLACKJACK) {
+            return 1;
+        }
+
+        int dealerUp = CardCodes.value(dealer.get(0));
+        while (sumPlayer < Game.BLACKJACK
+                && strategy.shouldHit(sumPlayer, player.isSoft(), dealerUp)) {
+            player.add(shoe.draw());
+            sumPlayer = player.getSum();
+        }
+        if (player.isBust()) {
+            return -1;
+        }
+
+        while (Game.dealerMustHit(sumDealer)) {
+            dealer.add(shoe.draw());
+            sumDealer = dealer.getSum();
+        }
+        return Game.settle(sumPlayer, sumDealer);
+    }
+}
@@ -0,0 +1,28 @@
+package ru.nsu.kiryushin;
+
+/**
+ * Player decision rule used by the headless {@link Simulator}.
+ */
+@FunctionalInterface
+public interface Strategy {
+
+    /**
+     * Decides whether the player takes another card.
+     *
+     * @param total current player total (at most 21)
+     * @param soft {@code true} if an Ace in the hand is still counted as 11
+     * @param dealerUp Blackjack value of the dealer's open card (2..11)
+     * @return {@code true} to hit, {@code false} to stand
+     */
+    boolean shouldHit(int total, boolean soft, int dealerUp);
+
+    /**
+     * Strategy that hits below a fixed total regardless of the dealer's card.
+     *
+     * @param threshold first total on which the player stands
+     * @return threshold strategy
+     */
+    static Strategy standOn(int threshold) {
+        return (total, soft, dealerUp) -> total < threshold;
+    }
+}
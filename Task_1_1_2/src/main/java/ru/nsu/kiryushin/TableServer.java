@@ -0,0 +1,110 @@
+package ru.nsu.kiryushin;
+
+import java.lang.reflect.Method;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hosts many concurrent {@link TableSession}s, one thread per table.
+ *
+ * <p>On runtimes with virtual threads every table runs on its own virtual
+ * thread, so a table waiting for its player costs no carrier thread. Older
+ * runtimes, including the Java 17 toolchain of this project, fall back to a
+ * fixed pool of platform threads: at most that many tables play at once and
+ * the rest wait in the queue until a thread is free.
+ */
+public class TableServer implements AutoCloseable {
+    /**
+     * Default size of the platform-thread pool used without virtual threads.
+     */
+    public static final int DEFAULT_PLATFORM_THREADS = 256;
+
+    private final int numDecks;
+    private final ExecutorService executor;
+    private final SplittableRandom seeds;
+
+    /**
+     * Creates a server.
+     *
+     * @param numDecks number of 52-card packs in every table's shoe
+     * @param seed seed from which per-table random sources are derived
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     */
+    public TableServer(int numDecks, long seed) {
+        this(numDecks, seed, DEFAULT_PLATFORM_THREADS);
+    }
+
+    /**
+     * Creates a server with an explicit bound on platform threads.
+     *
+     * @param numDecks number of 52-card packs in every table's shoe
+     * @param seed seed from which per-table random sources are derived
+     * @param maxPlatformThreads tables played at once when virtual threads are unavailable
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     *                                  or {@code maxPlatformThreads} is not positive
+     */
+    public TableServer(int numDecks, long seed, int maxPlatformThreads) {
+        if (maxPlatformThreads < 1) {
+            throw new IllegalArgumentException("maxPlatformThreads < 1: " + maxPlatformThreads);
+        }
+        if (numDecks < 1 || numDecks > 8) {
+            throw new IllegalArgumentException(
+                    "Количество колод должно быть от 1 до 8 включительно!");
+        }
+        this.numDecks = numDecks;
+        this.seeds = new SplittableRandom(seed);
+        this.executor = newTableExecutor(maxPlatformThreads);
+    }
+
+    /**
+     * Opens a table and starts its round loop.
+     *
+     * @param input source of player actions for the table
+     * @param rounds number of rounds to play
+     * @return future completed with the table outcome
+     */
+    public Future<SimulationResult> open(PlayerInput input, long rounds) {
+        long tableSeed;
+        synchronized (seeds) {
+            tableSeed = seeds.nextLong();
+        }
+        return executor.submit(
+                new TableSession(numDecks, input, rounds, new SplittableRandom(tableSeed)));
+    }
+
+    /**
+     * Stops accepting tables and waits for open tables to finish.
+     *
+     * <p>If the waiting thread is interrupted, open tables are interrupted too
+     * and the interrupt status is restored.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the runtime has one,
+     * otherwise a fixed pool of platform threads.
+     *
+     * @param maxPlatformThreads size of the fallback pool
+     * @return executor for table sessions
+     */
+    static ExecutorService newTableExecutor(int maxPlatformThreads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newFixedThreadPool(maxPlatformThreads);
+        }
+    }
+}
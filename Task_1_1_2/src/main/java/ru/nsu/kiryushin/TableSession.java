@@ -0,0 +1,116 @@
+package ru.nsu.kiryushin;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Round loop of a single table driven by a {@link PlayerInput}.
+ *
+ * <p>The session owns its deck, random source and counters, so tables share no
+ * mutable state and can run on as many threads as there are tables. Rounds are
+ * played with the rules of {@link Game}: the deck is replaced at the same cut
+ * point and the dealer stands on 17. As in the console game the player can only
+ * hit or stand; every decision other than {@link Decision#HIT} stands.
+ *
+ * <p>While the table waits for its player it can be interrupted: the pending
+ * action is cancelled and {@link #call()} ends with an {@link InterruptedException}.
+ */
+public class TableSession implements Callable<SimulationResult> {
+    private final int numDecks;
+    private final PlayerInput input;
+    private final long rounds;
+    private final RandomGenerator random;
+
+    /**
+     * Creates a session.
+     *
+     * @param numDecks number of 52-card packs in the shoe
+     * @param input source of player actions
+     * @param rounds number of rounds to play
+     * @param random random source owned by this table
+     * @throws IllegalArgumentException if {@code numDecks} is outside 1..8
+     *                                  or {@code rounds} is negative
+     */
+    public TableSession(int numDecks, PlayerInput input, long rounds, RandomGenerator random) {
+        if (numDecks < 1 || numDecks > 8) {
+            throw new IllegalArgumentException(
+                    "Количество колод должно быть от 1 до 8 включительно!");
+        }
+        if (rounds < 0) {
+            throw new IllegalArgumentException("rounds < 0: " + rounds);
+        }
+        this.numDecks = numDecks;
+        this.input = input;
+        this.rounds = rounds;
+        this.random = random;
+    }
+
+    /**
+     * Plays all rounds of the table.
+     *
+     * @return outcome of the played rounds
+     * @throws InterruptedException if the table thread is interrupted
+     * @throws CompletionException if the input fails to deliver an action
+     */
+    @Override
+    public SimulationResult call() throws InterruptedException {
+        try {
+            return play();
+        } catch (Interrupted e) {
+            throw e.interrupt;
+        }
+    }
+
+    private SimulationResult play() throws InterruptedException {
+        Strategy player = (total, soft, dealerUp) ->
+                awaitAction(total, soft, dealerUp) == Decision.HIT;
+        long[] counts = new long[3];
+        long start = System.nanoTime();
+        Deck deck = Deck.create(numDecks, random);
+        for (long r = 0; r < rounds; r++) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Стол остановлен");
+            }
+            Game.ensureDeckHasCards(deck);
+            int result = Simulator.playRound(deck, player);
+            counts[1 - result]++;
+            input.roundFinished(result);
+        }
+        return new SimulationResult(counts[0], counts[1], counts[2], System.nanoTime() - start);
+    }
+
+    /**
+     * Waits for the player's next action on the table thread.
+     *
+     * @throws Interrupted if the thread is interrupted while waiting
+     */
+    private Decision awaitAction(int total, boolean soft, int dealerUp) {
+        CompletableFuture<Decision> action =
+                input.nextAction(total, soft, dealerUp).toCompletableFuture();
+        try {
+            return action.get();
+        } catch (InterruptedException e) {
+            action.cancel(true);
+            throw new Interrupted(e);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Carries an {@link InterruptedException} through the {@link Strategy} callback.
+     */
+    private static final class Interrupted extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final InterruptedException interrupt;
+
+        Interrupted(InterruptedException interrupt) {
+            super(interrupt);
+            this.interrupt = interrupt;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link BasicStrategy} class.
+ */
+public class BasicStrategyTest {
+    private final BasicStrategy strategy = BasicStrategy.forDecks(6);
+
+    /**
+     * Checks well-known hard-total cells of the six-deck chart.
+     */
+    @Test
+    void hardTotalsMatchKnownChart() {
+        assertEquals(Decision.HIT, strategy.decide(16, false, 10));
+        assertEquals(Decision.STAND, strategy.decide(16, false, 6));
+        assertEquals(Decision.HIT, strategy.decide(12, false, 2));
+        assertEquals(Decision.STAND, strategy.decide(12, false, 4));
+        assertEquals(Decision.DOUBLE, strategy.decide(11, false, 10));
+        assertEquals(Decision.HIT, strategy.decide(11, false, 11));
+        assertEquals(Decision.DOUBLE, strategy.decide(10, false, 9));
+        assertEquals(Decision.STAND, strategy.decide(17, false, 11));
+    }
+
+    /**
+     * Checks well-known soft-total cells of the six-deck chart.
+     */
+    @Test
+    void softTotalsMatchKnownChart() {
+        assertEquals(Decision.HIT, strategy.decide(18, true, 9));
+        assertEquals(Decision.STAND, strategy.decide(18, true, 2));
+        assertEquals(Decision.DOUBLE, strategy.decide(18, true, 4));
+        assertEquals(Decision.DOUBLE, strategy.decide(13, true, 6));
+        assertEquals(Decision.STAND, strategy.decide(19, true, 10));
+    }
+
+    /**
+     * Checks well-known pair cells of the six-deck chart.
+     */
+    @Test
+    void pairsMatchKnownChart() {
+        assertEquals(Decision.SPLIT, strategy.decidePair(11, 10));
+        assertEquals(Decision.SPLIT, strategy.decidePair(8, 10));
+        assertEquals(Decision.STAND, strategy.decidePair(10, 6));
+        assertEquals(Decision.DOUBLE, strategy.decidePair(5, 9));
+        assertEquals(Decision.STAND, strategy.decidePair(9, 7));
+        assertEquals(Decision.SPLIT, strategy.decidePair(9, 8));
+    }
+
+    /**
+     * Ensures the hit/stand table agrees with the two-card table where
+     * doubling is not involved.
+     */
+    @Test
+    void shouldHitAgreesWithDecisionTable() {
+        for (int up = 2; up <= 11; up++) {
+            for (int total = 12; total <= 21; total++) {
+                Decision hard = strategy.decide(total, false, up);
+                if (hard != Decision.DOUBLE) {
+                    assertEquals(hard == Decision.HIT, strategy.shouldHit(total, false, up));
+                }
+            }
+            assertFalse(strategy.shouldHit(21, true, up));
+            assertTrue(strategy.shouldHit(8, false, up));
+        }
+    }
+
+    /**
+     * Verifies that basic strategy beats the dealer-mimic strategy in simulation.
+     */
+    @Test
+    void basicStrategyOutperformsDealerMimic() {
+        SimulationResult basic = new Simulator(6, strategy, 3, true).run(200_000, 2);
+        SimulationResult mimic = new Simulator(6, Strategy.standOn(17), 3, true).run(200_000, 2);
+        assertTrue(basic.getWinRate() - basic.getLossRate()
+                > mimic.getWinRate() - mimic.getLossRate());
+    }
+
+    /**
+     * Ensures invalid deck counts are rejected.
+     */
+    @Test
+    void forDecksRejectsInvalidDeckCount() {
+        assertThrows(IllegalArgumentException.class, () -> BasicStrategy.forDecks(0));
+    }
+}
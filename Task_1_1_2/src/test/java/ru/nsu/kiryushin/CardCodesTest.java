@@ -0,0 +1,41 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link CardCodes} class.
+ */
+public class CardCodesTest {
+
+    /**
+     * Checks that encoding round-trips for every card of a pack.
+     */
+    @Test
+    void encodeRoundTripsAllCards() {
+        for (int suit = 0; suit < 4; suit++) {
+            for (int rank = 0; rank < 13; rank++) {
+                Card card = new Card(rank, suit);
+                int code = CardCodes.encode(card);
+                assertEquals(rank, CardCodes.rank(code));
+                assertEquals(suit, CardCodes.suit(code));
+                assertEquals(card.getValue(), CardCodes.value(code));
+                assertEquals(card.isAce(), CardCodes.isAce(code));
+                assertEquals(card.getCardName(), CardCodes.toCard(code).getCardName());
+            }
+        }
+    }
+
+    /**
+     * Verifies ace detection by rank index.
+     */
+    @Test
+    void isAceDetectsOnlyAces() {
+        assertTrue(CardCodes.isAce(CardCodes.encode(Card.ACE_RANK, 3)));
+        assertFalse(CardCodes.isAce(CardCodes.encode(12, 0)));
+        assertEquals(11, CardCodes.value(CardCodes.encode(Card.ACE_RANK, 0)));
+    }
+}
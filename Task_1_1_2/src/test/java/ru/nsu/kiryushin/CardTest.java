@@ -1,6 +1,8 @@
 package ru.nsu.kiryushin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,4 +50,16 @@ public class CardTest {
         Card card = new Card(11, 1);
         assertEquals(expected, card.getCardName());
     }
+
+    /**
+     * Checks that Aces are detected by rank index.
+     */
+    @Test
+    void isAceDetectsAceByRank() {
+        Card ace = new Card(Card.ACE_RANK, 2);
+        assertTrue(ace.isAce());
+        assertEquals(Card.ACE_RANK, ace.getRank());
+        assertEquals(2, ace.getSuit());
+        assertFalse(new Card(10, 2).isAce());
+    }
 }
@@ -0,0 +1,76 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link CompactHand} class.
+ */
+public class CompactHandTest {
+
+    /**
+     * Checks soft and hard totals with an Ace.
+     */
+    @Test
+    void aceIsCountedAsElevenUntilItBusts() {
+        CompactHand hand = new CompactHand();
+        hand.add(CardCodes.encode(Card.ACE_RANK, 0));
+        hand.add(CardCodes.encode(4, 1));
+        assertEquals(17, hand.getSum());
+        assertTrue(hand.isSoft());
+
+        hand.add(CardCodes.encode(7, 2));
+        assertEquals(16, hand.getSum());
+        assertFalse(hand.isSoft());
+        assertFalse(hand.isBust());
+
+        hand.add(CardCodes.encode(12, 3));
+        assertTrue(hand.isBust());
+    }
+
+    /**
+     * Ensures that the compact total matches {@link Hand} for random hands.
+     */
+    @Test
+    void sumMatchesHandForRandomCards() {
+        Random random = new Random(17);
+        CompactHand compact = new CompactHand();
+        for (int round = 0; round < 2_000; round++) {
+            Card c1 = CardCodes.toCard(random.nextInt(52));
+            Card c2 = CardCodes.toCard(random.nextInt(52));
+            Hand hand = new Hand(c1, c2);
+            compact.clear();
+            compact.add(CardCodes.encode(c1));
+            compact.add(CardCodes.encode(c2));
+            int extra = random.nextInt(16);
+            for (int i = 0; i < extra; i++) {
+                Card c = CardCodes.toCard(random.nextInt(52));
+                hand.addCard(c);
+                compact.add(CardCodes.encode(c));
+            }
+            assertEquals(hand.getSumHand(), compact.getSum());
+            assertEquals(hand.getSoftAces() > 0, compact.isSoft());
+            assertEquals(hand.getHand().size(), compact.size());
+        }
+    }
+
+    /**
+     * Verifies that clearing resets the hand and indexing is checked.
+     */
+    @Test
+    void clearResetsHand() {
+        CompactHand hand = new CompactHand();
+        hand.add(CardCodes.encode(3, 0));
+        assertEquals(CardCodes.encode(3, 0), hand.get(0));
+        hand.clear();
+        assertEquals(0, hand.size());
+        assertEquals(0, hand.getSum());
+        assertThrows(IndexOutOfBoundsException.class, () -> hand.get(0));
+    }
+}
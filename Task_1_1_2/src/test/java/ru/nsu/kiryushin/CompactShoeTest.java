@@ -0,0 +1,70 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link CompactShoe} class.
+ */
+public class CompactShoeTest {
+
+    /**
+     * Checks that a full shoe contains every card exactly once per pack.
+     */
+    @Test
+    void shoeContainsEveryCardPerDeck() {
+        CompactShoe shoe = new CompactShoe(3, new Random(1));
+        int[] seen = new int[CardCodes.CARDS];
+        while (shoe.size() > 0) {
+            seen[shoe.draw()]++;
+        }
+        for (int count : seen) {
+            assertEquals(3, count);
+        }
+    }
+
+    /**
+     * Ensures the shoe deals the same sequence as an equally seeded deck.
+     */
+    @Test
+    void shoeDealsSameSequenceAsDeck() {
+        CompactShoe shoe = new CompactShoe(2, new Random(99));
+        Deck deck = Deck.create(2, new Random(99));
+        while (deck.size() > 0) {
+            assertEquals(deck.getCard().getCardName(), CardCodes.toCard(shoe.draw()).getCardName());
+        }
+    }
+
+    /**
+     * Verifies that reshuffling restores the full shoe.
+     */
+    @Test
+    void reshuffleRestoresAllCards() {
+        CompactShoe shoe = new CompactShoe(1, new Random(5));
+        for (int i = 0; i < 40; i++) {
+            shoe.draw();
+        }
+        shoe.reshuffle();
+        assertEquals(52, shoe.size());
+        assertEquals(52, shoe.capacity());
+    }
+
+    /**
+     * Ensures drawing from an empty shoe and invalid deck counts throw.
+     */
+    @Test
+    void shoeRejectsInvalidUse() {
+        CompactShoe shoe = new CompactShoe(1, new Random(5));
+        for (int i = 0; i < 52; i++) {
+            shoe.draw();
+        }
+        NoSuchElementException ex = assertThrows(NoSuchElementException.class, shoe::draw);
+        assertEquals("Колода пустая", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new CompactShoe(0, new Random()));
+    }
+}
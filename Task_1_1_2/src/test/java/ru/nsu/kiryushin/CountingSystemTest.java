@@ -0,0 +1,41 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link CountingSystem} interface.
+ */
+public class CountingSystemTest {
+
+    /**
+     * Checks that Hi-Lo is balanced over a full pack.
+     */
+    @Test
+    void hiLoIsBalanced() {
+        int sum = 0;
+        for (int rank = 0; rank < 13; rank++) {
+            sum += 4 * CountingSystem.HI_LO.tag(rank);
+        }
+        assertEquals(0, sum);
+        assertEquals(1, CountingSystem.HI_LO.tag(0));
+        assertEquals(0, CountingSystem.HI_LO.tag(5));
+        assertEquals(-1, CountingSystem.HI_LO.tag(Card.ACE_RANK));
+        assertEquals(0, CountingSystem.HI_LO.initialCount(6));
+    }
+
+    /**
+     * Checks that Knock-Out ends at +4 after a full shoe is dealt.
+     */
+    @Test
+    void knockOutEndsAtFour() {
+        for (int decks = 1; decks <= 8; decks++) {
+            int count = CountingSystem.KNOCK_OUT.initialCount(decks);
+            for (int rank = 0; rank < 13; rank++) {
+                count += 4 * decks * CountingSystem.KNOCK_OUT.tag(rank);
+            }
+            assertEquals(4, count);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link DealerOdds} class.
+ */
+public class DealerOddsTest {
+
+    /**
+     * Checks that every distribution sums to one.
+     */
+    @Test
+    void distributionsSumToOne() {
+        DealerOdds odds = new DealerOdds();
+        for (int up = 2; up <= 11; up++) {
+            double sum = 0;
+            for (double p : odds.finalTotals(shoeWithout(6, up), up)) {
+                sum += p;
+            }
+            assertEquals(1.0, sum, 1e-12);
+        }
+    }
+
+    /**
+     * Compares a single-deck result with sampling without replacement.
+     */
+    @Test
+    void singleDeckMatchesSampling() {
+        for (int up : new int[] {6, 10, 11}) {
+            int[] counts = shoeWithout(1, up);
+            double[] exact = new DealerOdds().finalTotals(counts, up);
+            double[] sampled = sample(counts, up, 400_000, new SplittableRandom(up));
+            for (int k = 0; k < exact.length; k++) {
+                assertEquals(exact[k], sampled[k], 0.004);
+            }
+        }
+    }
+
+    /**
+     * Checks known six-deck figures: the dealer busts about 42% of the time
+     * with a six up and has a natural with an Ace up about 31% of the time.
+     */
+    @Test
+    void sixDeckMatchesKnownFigures() {
+        DealerOdds odds = new DealerOdds();
+        double[] six = odds.finalTotals(shoeWithout(6, 6), 6);
+        assertEquals(0.42, six[DealerOdds.BUST], 0.01);
+        double[] ace = odds.finalTotals(shoeWithout(6, 11), 11);
+        assertEquals(96.0 / 311, ace[DealerOdds.NATURAL], 1e-12);
+    }
+
+    /**
+     * Ensures repeated queries are served from the cache.
+     */
+    @Test
+    void repeatedQueriesAreCached() {
+        DealerOdds odds = new DealerOdds();
+        int[] counts = shoeWithout(2, 9);
+        double[] first = odds.finalTotals(counts, 9);
+        first[0] = -1;
+        assertEquals(1, odds.cacheSize());
+        double[] second = odds.finalTotals(counts, 9);
+        assertEquals(1, odds.cacheSize());
+        assertArrayEquals(new DealerOdds(0).finalTotals(counts, 9), second, 0.0);
+    }
+
+    /**
+     * Checks that the composition of a deck is used after cards are dealt.
+     */
+    @Test
+    void deckCompositionIsUsed() {
+        Deck deck = Deck.create(2, new SplittableRandom(4));
+        Card up = deck.getCard();
+        deck.getCard();
+        DealerOdds odds = new DealerOdds();
+        assertArrayEquals(odds.finalTotals(deck.getComposition(), up.getValue()),
+                odds.finalTotals(deck, up.getValue()), 0.0);
+    }
+
+    /**
+     * Ensures invalid input is rejected.
+     */
+    @Test
+    void invalidInputIsRejected() {
+        DealerOdds odds = new DealerOdds();
+        assertThrows(IllegalArgumentException.class, () -> odds.finalTotals(shoeWithout(1, 5), 1));
+        int[] tooMany = new int[12];
+        tooMany[5] = 64;
+        assertThrows(IllegalArgumentException.class, () -> odds.finalTotals(tooMany, 5));
+        int[] tiny = new int[12];
+        tiny[2] = 1;
+        assertThrows(NoSuchElementException.class, () -> odds.finalTotals(tiny, 2));
+    }
+
+    private static int[] shoeWithout(int numDecks, int up) {
+        int[] counts = new int[12];
+        for (int v = 2; v <= 11; v++) {
+            counts[v] = (v == 10 ? 16 : 4) * numDecks;
+        }
+        counts[up]--;
+        return counts;
+    }
+
+    private static double[] sample(int[] counts, int up, int trials, SplittableRandom random) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        int[] cards = new int[total];
+        int n = 0;
+        for (int v = 2; v <= 11; v++) {
+            for (int i = 0; i < counts[v]; i++) {
+                cards[n++] = v;
+            }
+        }
+        double[] dist = new double[7];
+        for (int t = 0; t < trials; t++) {
+            int next = 0;
+            int hard = up == 11 ? 1 : up;
+            boolean ace = up == 11;
+            int drawn = 0;
+            while (true) {
+                int j = next + random.nextInt(total - next);
+                int card = cards[j];
+                cards[j] = cards[next];
+                cards[next++] = card;
+                hard += card == 11 ? 1 : card;
+                ace |= card == 11;
+                drawn++;
+                int sum = ace && hard + 10 <= 21 ? hard + 10 : hard;
+                if (drawn == 1 && sum == 21) {
+                    dist[DealerOdds.NATURAL]++;
+                    break;
+                } else if (hard > 21) {
+                    dist[DealerOdds.BUST]++;
+                    break;
+                } else if (sum >= 17) {
+                    dist[sum - 17]++;
+                    break;
+                }
+            }
+        }
+        for (int k = 0; k < dist.length; k++) {
+            dist[k] /= trials;
+        }
+        return dist;
+    }
+}
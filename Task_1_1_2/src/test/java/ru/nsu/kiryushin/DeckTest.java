@@ -1,9 +1,15 @@
 package ru.nsu.kiryushin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +71,169 @@ public class DeckTest {
         NoSuchElementException ex = assertThrows(NoSuchElementException.class, deck::getCard);
         assertEquals("Колода пустая", ex.getMessage());
     }
+
+    /**
+     * Ensures that decks shuffled with equally seeded generators deal the same cards.
+     */
+    @Test
+    void deckWithSeededRandomIsReproducible() {
+        Deck a = Deck.create(2, new Random(11));
+        Deck b = Deck.create(2, new Random(11));
+        for (int i = 0; i < 104; ++i) {
+            assertEquals(a.getCard().getCardName(), b.getCard().getCardName());
+        }
+    }
+
+    /**
+     * Checks the default cut card for single- and multi-deck shoes.
+     */
+    @Test
+    void needsReshuffleFollowsDefaultCutCard() {
+        Deck single = Deck.create(1, new SplittableRandom(1));
+        drawDownTo(single, 22);
+        assertFalse(single.needsReshuffle());
+        single.getCard();
+        assertTrue(single.needsReshuffle());
+
+        Deck shoe = Deck.create(6, new SplittableRandom(1));
+        drawDownTo(shoe, 79);
+        assertFalse(shoe.needsReshuffle());
+        shoe.getCard();
+        assertTrue(shoe.needsReshuffle());
+    }
+
+    /**
+     * Verifies that penetration moves the cut card.
+     */
+    @Test
+    void setPenetrationMovesCutCard() {
+        Deck deck = Deck.create(2, new SplittableRandom(2));
+        deck.setPenetration(0.5);
+        drawDownTo(deck, 53);
+        assertFalse(deck.needsReshuffle());
+        deck.getCard();
+        assertTrue(deck.needsReshuffle());
+        assertThrows(IllegalArgumentException.class, () -> deck.setPenetration(0));
+        assertThrows(IllegalArgumentException.class, () -> deck.setPenetration(1.5));
+    }
+
+    /**
+     * Ensures that full penetration still leaves a round behind the cut card.
+     */
+    @Test
+    void fullPenetrationKeepsOneRound() {
+        Deck deck = Deck.create(1, new SplittableRandom(3));
+        deck.setPenetration(1.0);
+        drawDownTo(deck, Deck.MIN_CUT_CARDS + 1);
+        assertFalse(deck.needsReshuffle());
+        deck.getCard();
+        assertTrue(deck.needsReshuffle());
+        assertEquals(Deck.MIN_CUT_CARDS, deck.size());
+    }
+
+    /**
+     * Ensures that reshuffling restores every card of the shoe.
+     */
+    @Test
+    void reshuffleRestoresFullShoe() {
+        Deck deck = Deck.create(4, RandomGenerator.of("Xoshiro256PlusPlus"));
+        drawDownTo(deck, 10);
+        deck.reshuffle();
+        assertEquals(208, deck.size());
+        int[] seen = new int[CardCodes.CARDS];
+        while (deck.size() > 0) {
+            seen[CardCodes.encode(deck.getCard())]++;
+        }
+        for (int count : seen) {
+            assertEquals(4, count);
+        }
+        assertEquals(4, deck.getNumDecks());
+    }
+
+    /**
+     * Checks that equal cards are dealt as the same shared instance.
+     */
+    @Test
+    void dealtCardsAreShared() {
+        Deck deck = Deck.create(2, new SplittableRandom(3));
+        Card[] byCode = new Card[CardCodes.CARDS];
+        while (deck.size() > 0) {
+            Card card = deck.getCard();
+            int code = CardCodes.encode(card);
+            if (byCode[code] == null) {
+                byCode[code] = card;
+            }
+            assertSame(byCode[code], card);
+        }
+    }
+
+    /**
+     * Ensures rank counts and running counts follow every dealt card.
+     */
+    @Test
+    void statsFollowDealtCards() {
+        Deck deck = Deck.create(2, new SplittableRandom(6));
+        int hiLo = deck.addCountingSystem(CountingSystem.HI_LO);
+        ShoeStats stats = deck.getStats();
+        int[] dealt = new int[13];
+        int running = 0;
+        for (int i = 0; i < 80; i++) {
+            Card card = deck.getCard();
+            dealt[card.getRank()]++;
+            running += CountingSystem.HI_LO.tag(card.getRank());
+            assertEquals(running, stats.getRunningCount(hiLo));
+        }
+        for (int rank = 0; rank < 13; rank++) {
+            assertEquals(8 - dealt[rank], stats.getRemaining(rank));
+        }
+        assertEquals(24, stats.getCardsRemaining());
+        assertEquals(24 / 52.0, stats.getDecksRemaining(), 1e-12);
+        assertEquals(running * 52.0 / 24, stats.getTrueCount(hiLo), 1e-12);
+        assertSame(stats, deck.getStats());
+    }
+
+    /**
+     * Checks that a system added mid-shoe catches up and reshuffling resets it.
+     */
+    @Test
+    void countingSystemAddedMidShoeCatchesUp() {
+        Deck deck = Deck.create(1, new SplittableRandom(9));
+        int hiLo = deck.addCountingSystem(CountingSystem.HI_LO);
+        drawDownTo(deck, 30);
+        int ko = deck.addCountingSystem(CountingSystem.KNOCK_OUT);
+        int expected = CountingSystem.KNOCK_OUT.initialCount(1);
+        Deck replay = Deck.create(1, new SplittableRandom(9));
+        for (int i = 0; i < 22; i++) {
+            expected += CountingSystem.KNOCK_OUT.tag(replay.getCard().getRank());
+        }
+        assertEquals(expected, deck.getStats().getRunningCount(ko));
+
+        drawDownTo(deck, 0);
+        assertEquals(0, deck.getStats().getRunningCount(hiLo));
+        assertEquals(4, deck.getStats().getRunningCount(ko));
+        assertEquals(0.0, deck.getStats().getTrueCount(hiLo));
+
+        deck.reshuffle();
+        assertEquals(0, deck.getStats().getRunningCount(hiLo));
+        assertEquals(CountingSystem.KNOCK_OUT.initialCount(1), deck.getStats().getRunningCount(ko));
+        assertEquals(4, deck.getStats().getRemaining(Card.ACE_RANK));
+    }
+
+    /**
+     * Verifies that the composition by value is derived from rank counts.
+     */
+    @Test
+    void compositionGroupsRanksByValue() {
+        Deck deck = Deck.create(3, new SplittableRandom(1));
+        int[] counts = deck.getComposition();
+        assertEquals(48, counts[10]);
+        assertEquals(12, counts[11]);
+        assertEquals(12, counts[2]);
+    }
+
+    private static void drawDownTo(Deck deck, int remaining) {
+        while (deck.size() > remaining) {
+            deck.getCard();
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link EventLogReader} class.
+ */
+public class EventLogReaderTest {
+    @TempDir
+    Path dir;
+
+    /**
+     * Ensures files without the event log header are rejected.
+     */
+    @Test
+    void rejectsForeignFile() throws IOException {
+        Path file = dir.resolve("foreign.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> new EventLogReader(file));
+        Files.write(file, new byte[0]);
+        assertThrows(IOException.class, () -> new EventLogReader(file));
+    }
+
+    /**
+     * Ensures a log cut inside a record is reported.
+     */
+    @Test
+    void rejectsTruncatedRecord() throws IOException {
+        Path file = dir.resolve("truncated.bin");
+        try (EventLogWriter log = new EventLogWriter(file)) {
+            log.write(1, EventType.HIT, EventLogWriter.DEALER, 9, 15);
+            log.write(1, EventType.STAND, EventLogWriter.DEALER, EventLogWriter.NO_CARD, 18);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        try (EventLogReader reader = new EventLogReader(file)) {
+            assertTrue(reader.next());
+            assertEquals(EventType.HIT, reader.type());
+            assertEquals(EventLogWriter.DEALER, reader.actor());
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    /**
+     * Ensures a corrupt event type is reported with the record offset.
+     */
+    @Test
+    void rejectsUnknownEventType() throws IOException {
+        Path file = dir.resolve("corrupt.bin");
+        try (EventLogWriter log = new EventLogWriter(file)) {
+            log.write(1, EventType.DEAL, EventLogWriter.PLAYER, 3, 0);
+            log.write(1, EventType.HIT, EventLogWriter.PLAYER, 4, 9);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int offset = EventLogWriter.HEADER_BYTES + EventLogWriter.RECORD_BYTES;
+        bytes[offset + Long.BYTES] = (byte) 0xF0;
+        Files.write(file, bytes);
+        try (EventLogReader reader = new EventLogReader(file)) {
+            assertTrue(reader.next());
+            IOException ex = assertThrows(IOException.class, reader::next);
+            assertTrue(ex.getMessage().contains(String.valueOf(offset)));
+        }
+    }
+
+    /**
+     * Checks that an empty log has no records.
+     */
+    @Test
+    void emptyLogHasNoRecords() throws IOException {
+        Path file = dir.resolve("empty.bin");
+        new EventLogWriter(file).close();
+        try (EventLogReader reader = new EventLogReader(file)) {
+            assertFalse(reader.next());
+        }
+    }
+}
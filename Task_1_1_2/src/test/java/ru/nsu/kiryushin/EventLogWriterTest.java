@@ -0,0 +1,95 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link EventLogWriter} class.
+ */
+public class EventLogWriterTest {
+    @TempDir
+    Path dir;
+
+    /**
+     * Checks the header and the fixed record width.
+     */
+    @Test
+    void writesHeaderAndFixedWidthRecords() throws IOException {
+        Path file = dir.resolve("events.bin");
+        try (EventLogWriter log = new EventLogWriter(file)) {
+            log.write(7, EventType.DEAL, EventLogWriter.PLAYER, 51, 0);
+            log.write(7, EventType.OUTCOME, EventLogWriter.PLAYER, EventLogWriter.NO_CARD, -1);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(EventLogWriter.HEADER_BYTES + 2 * EventLogWriter.RECORD_BYTES, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        assertEquals(EventLogWriter.MAGIC, buffer.getInt());
+        assertEquals(EventLogWriter.VERSION, buffer.getInt());
+        assertEquals(7, buffer.getLong());
+        assertEquals(EventType.DEAL.ordinal(), buffer.get());
+    }
+
+    /**
+     * Ensures records survive buffer flushes and read back in order.
+     */
+    @Test
+    void roundTripsManyRecords() throws IOException {
+        Path file = dir.resolve("many.bin");
+        int records = 50_000;
+        try (EventLogWriter log = new EventLogWriter(file)) {
+            for (int i = 0; i < records; i++) {
+                log.write(i, EventType.values()[i % 5], i & 1, i % 52, i % 31 - 1);
+            }
+        }
+        try (EventLogReader reader = new EventLogReader(file)) {
+            for (int i = 0; i < records; i++) {
+                assertTrue(reader.next());
+                assertEquals(i, reader.round());
+                assertEquals(EventType.values()[i % 5], reader.type());
+                assertEquals(i & 1, reader.actor());
+                assertEquals(i % 52, reader.card());
+                assertEquals(i % 31 - 1, reader.value());
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    /**
+     * Checks that a logged simulation replays to the same outcome counts.
+     */
+    @Test
+    void simulationLogReplaysToSameResult() throws IOException {
+        Path file = dir.resolve("simulation.bin");
+        SimulationResult result =
+                new Simulator(6, BasicStrategy.forDecks(6), 12).runLogged(20_000, file);
+        long[] counts = new long[3];
+        long rounds = 0;
+        int dealt = 0;
+        try (EventLogReader reader = new EventLogReader(file)) {
+            while (reader.next()) {
+                if (reader.type() == EventType.DEAL) {
+                    dealt++;
+                } else if (reader.type() == EventType.OUTCOME) {
+                    assertEquals(4, dealt);
+                    assertEquals(rounds, reader.round());
+                    counts[1 - reader.value()]++;
+                    rounds++;
+                    dealt = 0;
+                }
+            }
+        }
+        assertEquals(result.getHands(), rounds);
+        assertEquals(result.getWins(), counts[0]);
+        assertEquals(result.getPushes(), counts[1]);
+        assertEquals(result.getLosses(), counts[2]);
+    }
+}
@@ -6,6 +6,8 @@ import java.io.PrintStream;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -71,4 +73,33 @@ public class GameTest {
         String s = output.toString();
         assertTrue(s.contains("Игра завершена."));
     }
+
+    /**
+     * Checks that a deck is reshuffled in place once the cut card is reached.
+     */
+    @Test
+    void ensureDeckHasCardsReshufflesInPlace() {
+        Deck deck = Deck.create(1);
+        for (int i = 0; i < 30; i++) {
+            deck.getCard();
+        }
+        Game.ensureDeckHasCards(deck);
+        assertEquals(22, deck.size());
+        deck.getCard();
+        Game.ensureDeckHasCards(deck);
+        assertEquals(52, deck.size());
+    }
+
+    /**
+     * Verifies settlement of final hands, including a dealer bust.
+     */
+    @Test
+    void settleComparesFinalTotals() {
+        assertEquals(1, Game.settle(12, 22));
+        assertEquals(1, Game.settle(20, 18));
+        assertEquals(0, Game.settle(18, 18));
+        assertEquals(-1, Game.settle(17, 19));
+        assertTrue(Game.dealerMustHit(16));
+        assertFalse(Game.dealerMustHit(17));
+    }
 }
@@ -1,7 +1,10 @@
 package ru.nsu.kiryushin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -88,4 +91,36 @@ public class HandTest {
         assertEquals(3, hand.getHand().size());
         assertSame(c3, hand.getHand().get(2));
     }
+
+    /**
+     * Checks soft and bust status as cards are added.
+     */
+    @Test
+    void softAndBustStatusFollowAddedCards() {
+        Hand hand = new Hand(new Card(Card.ACE_RANK, 0), new Card(Card.ACE_RANK, 1));
+        assertEquals(12, hand.getSumHand());
+        assertTrue(hand.isSoft());
+
+        hand.addCard(new Card(7, 2));
+        assertEquals(21, hand.getSumHand());
+        assertEquals(1, hand.getSoftAces());
+
+        hand.addCard(new Card(3, 3));
+        assertEquals(16, hand.getSumHand());
+        assertFalse(hand.isSoft());
+        assertFalse(hand.isBust());
+
+        hand.addCard(new Card(12, 0));
+        assertEquals(26, hand.getSumHand());
+        assertTrue(hand.isBust());
+    }
+
+    /**
+     * Ensures cards can only be added through {@link Hand#addCard(Card)}.
+     */
+    @Test
+    void getHandIsReadOnly() {
+        Hand hand = new Hand(new Card(0, 0), new Card(1, 1));
+        assertThrows(UnsupportedOperationException.class, () -> hand.getHand().add(new Card(2, 2)));
+    }
 }
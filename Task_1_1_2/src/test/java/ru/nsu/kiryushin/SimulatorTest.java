@@ -0,0 +1,98 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link Simulator} class.
+ */
+public class SimulatorTest {
+
+    /**
+     * Checks that every requested round is counted exactly once.
+     */
+    @Test
+    void runPlaysRequestedNumberOfHands() {
+        SimulationResult result = new Simulator(6, Strategy.standOn(17), 42).run(10_001, 4);
+        assertEquals(10_001, result.getHands());
+        assertEquals(1.0, result.getWinRate() + result.getPushRate() + result.getLossRate(), 1e-9);
+        assertTrue(result.getHandsPerSecond() > 0);
+    }
+
+    /**
+     * Ensures that a fixed seed and thread count give identical results.
+     */
+    @Test
+    void runIsReproducibleForFixedSeed() {
+        SimulationResult a = new Simulator(1, Strategy.standOn(15), 7).run(5_000, 3);
+        SimulationResult b = new Simulator(1, Strategy.standOn(15), 7).run(5_000, 3);
+        assertEquals(a.getWins(), b.getWins());
+        assertEquals(a.getPushes(), b.getPushes());
+        assertEquals(a.getLosses(), b.getLosses());
+    }
+
+    /**
+     * Verifies that the house keeps its edge against the dealer-mimic strategy.
+     */
+    @Test
+    void dealerMimicStrategyLosesMoreThanItWins() {
+        SimulationResult result = new Simulator(6, Strategy.standOn(17), 1).run(200_000, 2);
+        assertTrue(result.getLossRate() > result.getWinRate());
+    }
+
+    /**
+     * Checks that a strategy that never hits leaves the player with two cards.
+     */
+    @Test
+    void playRoundNeverDrawsForStandingStrategy() {
+        Deck deck = Deck.create(8, new Random(3));
+        for (int i = 0; i < 50; i++) {
+            int before = deck.size();
+            int result = Simulator.playRound(deck, (total, soft, up) -> false);
+            assertTrue(result >= -1 && result <= 1);
+            assertTrue(before - deck.size() >= 4);
+        }
+    }
+
+    /**
+     * Ensures that invalid arguments are rejected.
+     */
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Simulator(9, Strategy.standOn(17)));
+        Simulator simulator = new Simulator(1, Strategy.standOn(17));
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(-1));
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(10, 0));
+    }
+
+    /**
+     * Checks that an empty run produces zero rates.
+     */
+    @Test
+    void emptyRunReportsZeroRates() {
+        SimulationResult result = new Simulator(2, Strategy.standOn(17), 5).run(0, 2);
+        assertEquals(0, result.getHands());
+        assertEquals(0.0, result.getWinRate());
+    }
+
+    /**
+     * Ensures that compact mode reproduces the object mode for the same seed.
+     */
+    @Test
+    void compactModeMatchesObjectMode() {
+        Strategy strategy = (total, soft, up) -> total < (soft ? 18 : 13 + (up >= 7 ? 4 : 0));
+        for (int decks : new int[] {1, 6}) {
+            SimulationResult a = new Simulator(decks, strategy, 21, false).run(20_000, 2);
+            SimulationResult b = new Simulator(decks, strategy, 21, true).run(20_000, 2);
+            assertEquals(a.getWins(), b.getWins());
+            assertEquals(a.getPushes(), b.getPushes());
+            assertEquals(a.getLosses(), b.getLosses());
+        }
+    }
+}
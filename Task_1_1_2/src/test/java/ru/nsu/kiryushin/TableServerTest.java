@@ -0,0 +1,102 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link TableServer} class.
+ */
+public class TableServerTest {
+
+    /**
+     * Load test: many tables served by in-memory clients that answer
+     * asynchronously from a small shared pool.
+     */
+    @Test
+    void serverHandlesManyConcurrentTables() throws Exception {
+        int tables = 400;
+        int rounds = 100;
+        BasicStrategy strategy = BasicStrategy.forDecks(6);
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        List<Future<SimulationResult>> results = new ArrayList<>();
+        try (TableServer server = new TableServer(6, 77)) {
+            for (int t = 0; t < tables; t++) {
+                PlayerInput client = (total, soft, up) -> CompletableFuture.supplyAsync(
+                        () -> strategy.shouldHit(total, soft, up) ? Decision.HIT : Decision.STAND,
+                        clients);
+                results.add(server.open(client, rounds));
+            }
+        } finally {
+            clients.shutdown();
+        }
+        long hands = 0;
+        for (Future<SimulationResult> result : results) {
+            assertTrue(result.isDone());
+            hands += result.get().getHands();
+        }
+        assertEquals((long) tables * rounds, hands);
+    }
+
+    /**
+     * Ensures a failing client fails only its own table.
+     */
+    @Test
+    void failingClientFailsOnlyItsTable() throws Exception {
+        Future<SimulationResult> broken;
+        Future<SimulationResult> healthy;
+        try (TableServer server = new TableServer(1, 3)) {
+            broken = server.open((total, soft, up) ->
+                    CompletableFuture.failedFuture(new IllegalStateException("disconnected")), 50);
+            healthy = server.open((total, soft, up) ->
+                    CompletableFuture.completedFuture(Decision.STAND), 50);
+        }
+        assertThrows(ExecutionException.class, broken::get);
+        assertEquals(50, healthy.get().getHands());
+    }
+
+    /**
+     * Ensures a bounded pool still serves more tables than it has threads.
+     */
+    @Test
+    void boundedServerQueuesExtraTables() throws Exception {
+        List<Future<SimulationResult>> results = new ArrayList<>();
+        try (TableServer server = new TableServer(1, 5, 2)) {
+            for (int t = 0; t < 10; t++) {
+                results.add(server.open((total, soft, up) ->
+                        CompletableFuture.completedFuture(Decision.STAND), 20));
+            }
+        }
+        for (Future<SimulationResult> result : results) {
+            assertEquals(20, result.get().getHands());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new TableServer(1, 5, 0));
+    }
+
+    /**
+     * Checks that a table executor is always available.
+     */
+    @Test
+    void newTableExecutorRunsTasks() throws Exception {
+        ExecutorService executor = TableServer.newTableExecutor(2);
+        try {
+            assertEquals(42, executor.submit(() -> 42).get());
+            if (executor instanceof ThreadPoolExecutor) {
+                assertEquals(2, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
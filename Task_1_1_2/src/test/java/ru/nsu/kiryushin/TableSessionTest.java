@@ -0,0 +1,106 @@
+package ru.nsu.kiryushin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link TableSession} class.
+ */
+public class TableSessionTest {
+
+    /**
+     * Ensures a session plays the same rounds as the simulator for the same deck.
+     */
+    @Test
+    void sessionMatchesSimulatorRounds() throws Exception {
+        Strategy strategy = BasicStrategy.forDecks(2);
+        PlayerInput input = (total, soft, up) -> CompletableFuture.completedFuture(
+                strategy.shouldHit(total, soft, up) ? Decision.HIT : Decision.STAND);
+        SimulationResult result = new TableSession(2, input, 3_000, new Random(8)).call();
+
+        Random random = new Random(8);
+        Deck deck = Deck.create(2, random);
+        long[] counts = new long[3];
+        for (int r = 0; r < 3_000; r++) {
+            Game.ensureDeckHasCards(deck);
+            counts[1 - Simulator.playRound(deck, strategy)]++;
+        }
+        assertEquals(counts[0], result.getWins());
+        assertEquals(counts[1], result.getPushes());
+        assertEquals(counts[2], result.getLosses());
+    }
+
+    /**
+     * Checks that every finished round is reported to the input.
+     */
+    @Test
+    void sessionReportsEveryRound() throws Exception {
+        AtomicLong finished = new AtomicLong();
+        PlayerInput input = new PlayerInput() {
+            @Override
+            public CompletableFuture<Decision> nextAction(int total, boolean soft, int dealerUp) {
+                return CompletableFuture.completedFuture(Decision.STAND);
+            }
+
+            @Override
+            public void roundFinished(int result) {
+                finished.incrementAndGet();
+            }
+        };
+        SimulationResult result = new TableSession(1, input, 500, new Random(1)).call();
+        assertEquals(500, result.getHands());
+        assertEquals(500, finished.get());
+    }
+
+    /**
+     * Ensures a table waiting for its player stops on interrupt and cancels
+     * the pending action.
+     */
+    @Test
+    void interruptStopsTableWaitingForInput() throws Exception {
+        CompletableFuture<Decision> pending = new CompletableFuture<>();
+        CountDownLatch asked = new CountDownLatch(1);
+        PlayerInput input = (total, soft, up) -> {
+            asked.countDown();
+            return pending;
+        };
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread table = new Thread(() -> {
+            try {
+                new TableSession(1, input, 1_000, new Random(2)).call();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        table.start();
+        assertTrue(asked.await(10, TimeUnit.SECONDS));
+        table.interrupt();
+        table.join(10_000);
+        assertFalse(table.isAlive());
+        assertTrue(failure.get() instanceof InterruptedException);
+        assertTrue(pending.isCancelled());
+    }
+
+    /**
+     * Ensures invalid arguments are rejected.
+     */
+    @Test
+    void sessionRejectsInvalidArguments() {
+        PlayerInput input = (total, soft, up) -> CompletableFuture.completedFuture(Decision.STAND);
+        assertThrows(IllegalArgumentException.class,
+                () -> new TableSession(0, input, 1, new Random()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TableSession(1, input, -1, new Random()));
+    }
+}